@@ -0,0 +1,159 @@
+package dev.webfx.website.application.benchmark;
+
+import dev.webfx.website.application.WebFXWebsiteApplication;
+import dev.webfx.website.application.cards.Card;
+import dev.webfx.website.application.cards.CardsPane;
+import dev.webfx.website.application.shared.BackgroundCache;
+import dev.webfx.website.application.shared.LayoutMetrics;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Boots the website headlessly (Monocle) and plays every card of both cards panes (WebFX & Start pages) through all
+ * its caption steps, while recording the per-pulse layout time, render time and allocation rate. The result (together
+ * with the layout metrics of each LayoutPane class) is written as JSON to the file given by the benchmark.output system
+ * property (or to the standard output).
+ *
+ * Other settings (system properties): benchmark.settleMillis, benchmark.stepMillis, headless.geometry.
+ *
+ * @author Bruno Salmon
+ */
+public final class FrameTimeBenchmark extends Application {
+
+    private final static long SETTLE_MILLIS = Long.getLong("benchmark.settleMillis", 1500);
+    private final static long STEP_MILLIS   = Long.getLong("benchmark.stepMillis", 4000);
+
+    public static void main(String[] args) {
+        setDefaultProperty("glass.platform", "Monocle");
+        setDefaultProperty("monocle.platform", "Headless");
+        setDefaultProperty("prism.order", "sw");
+        setDefaultProperty("headless.geometry", "1920x1080-32");
+        // Pulses are run back-to-back, so the time between the end of a layout pass and the next pulse is the time
+        // the FX thread had to wait for the scene graph synchronisation and rendering of the previous frame
+        setDefaultProperty("javafx.animation.fullspeed", "true");
+        launch(args);
+    }
+
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null)
+            System.setProperty(key, value);
+    }
+
+    @Override
+    public void start(Stage stage) {
+        LayoutMetrics.setEnabled(true);
+        new WebFXWebsiteApplication().start(stage);
+        Scene scene = stage.getScene();
+        PulseRecorder recorder = new PulseRecorder(scene);
+        Thread driverThread = new Thread(() -> runBenchmark(scene, recorder), "benchmark-driver");
+        driverThread.setDaemon(true);
+        driverThread.start();
+    }
+
+    private void runBenchmark(Scene scene, PulseRecorder recorder) {
+        try {
+            sleep(SETTLE_MILLIS);
+            benchmarkCardsPane("webfx", callOnFx(() -> findCardsPane(scene, 0)), recorder);
+            runOnFx(() -> clickText(scene, "Start"));
+            sleep(SETTLE_MILLIS);
+            benchmarkCardsPane("start", callOnFx(() -> findCardsPane(scene, 1)), recorder);
+            writeReport(callOnFx(() -> recorder.toJson(STEP_MILLIS, LayoutMetrics.toJson(), BackgroundCache.toJson())));
+        } catch (Throwable e) {
+            e.printStackTrace();
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private void benchmarkCardsPane(String pageName, CardsPane cardsPane, PulseRecorder recorder) throws Exception {
+        Card[] cards = cardsPane.cards;
+        for (int i = 0; i < cards.length; i++) {
+            Card card = cards[i];
+            boolean scroll = i > 0;
+            // Scrolling the cards pane (if necessary) so that this card is visible
+            runOnFx(() -> {
+                if (scroll)
+                    cardsPane.onPaneSwipe(true);
+                card.checkInitialized();
+            });
+            sleep(SETTLE_MILLIS);
+            String cardName = card.getClass().getSimpleName();
+            int stepsCount = callOnFx(card::getStepsCount);
+            for (int step = 1; step <= stepsCount; step++) {
+                int s = step;
+                runOnFx(() -> {
+                    recorder.beginStep(pageName, cardName, s);
+                    if (s > 1) // Step 1 is already displayed once the card is initialized
+                        card.transitionToNextStep();
+                });
+                sleep(STEP_MILLIS);
+                runOnFx(recorder::endStep);
+            }
+            if (stepsCount > 1) // Going back to the first step
+                runOnFx(card::transitionToNextStep);
+        }
+    }
+
+    private static CardsPane findCardsPane(Scene scene, int index) {
+        int i = 0;
+        for (Node node : scene.getRoot().getChildrenUnmodifiable())
+            if (node instanceof CardsPane && i++ == index)
+                return (CardsPane) node;
+        throw new IllegalStateException("Cards pane #" + index + " not found");
+    }
+
+    private static void clickText(Scene scene, String text) {
+        for (Node node : scene.getRoot().getChildrenUnmodifiable())
+            if (node instanceof Text && text.equals(((Text) node).getText())) {
+                Event.fireEvent(node, new MouseEvent(MouseEvent.MOUSE_CLICKED, 0, 0, 0, 0, MouseButton.PRIMARY, 1,
+                        false, false, false, false, true, false, false, true, false, false, null));
+                return;
+            }
+        throw new IllegalStateException("Text '" + text + "' not found");
+    }
+
+    private static void writeReport(String json) throws IOException {
+        String output = System.getProperty("benchmark.output");
+        if (output == null)
+            System.out.println(json);
+        else
+            Files.write(Paths.get(output), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void runOnFx(Runnable runnable) throws Exception {
+        callOnFx(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    private static <T> T callOnFx(Callable<T> callable) throws Exception {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(callable.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future.get();
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
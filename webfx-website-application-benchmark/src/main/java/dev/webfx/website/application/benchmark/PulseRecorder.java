@@ -0,0 +1,160 @@
+package dev.webfx.website.application.benchmark;
+
+import dev.webfx.website.application.cards.CardsPane;
+import dev.webfx.website.application.shared.LayoutMetrics;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Scene;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records the time spent in each pulse (layout time & render time) and the bytes allocated by the FX thread, grouped
+ * by card step. Must be used from the FX thread only.
+ *
+ * The pulse start is detected with an animation timer (animations are the first phase of a pulse), the layout time
+ * is measured with the scene pre & post layout pulse listeners, and the render time is the time between the end of
+ * the layout pass and the start of the next pulse (which includes the scene graph synchronisation and the wait for
+ * the render thread). The dirty-triggered layout passes of the cards panes are also counted per step, as a card
+ * animation shouldn't make its cards pane redo its layout on each frame.
+ *
+ * @author Bruno Salmon
+ */
+final class PulseRecorder {
+
+    private final static double NANOS_IN_MILLI = 1_000_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final long fxThreadId = Thread.currentThread().getId();
+    private final List<StepRecord> stepRecords = new ArrayList<>();
+    private final Scene scene;
+    private StepRecord currentStep;
+    private long pulseStartNanos, pulseStartAllocatedBytes, preLayoutNanos, postLayoutNanos, layoutNanos;
+
+    PulseRecorder(Scene scene) {
+        this.scene = scene;
+        scene.addPreLayoutPulseListener(() -> preLayoutNanos = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> {
+            postLayoutNanos = System.nanoTime();
+            layoutNanos = postLayoutNanos - preLayoutNanos;
+        });
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulseStart();
+            }
+        }.start();
+    }
+
+    private void onPulseStart() {
+        long nowNanos = System.nanoTime(), allocatedBytes = threadMXBean.getThreadAllocatedBytes(fxThreadId);
+        if (currentStep != null && pulseStartNanos > 0 && postLayoutNanos > pulseStartNanos)
+            currentStep.addPulse(layoutNanos, nowNanos - postLayoutNanos, nowNanos - pulseStartNanos, allocatedBytes - pulseStartAllocatedBytes);
+        pulseStartNanos = nowNanos;
+        pulseStartAllocatedBytes = allocatedBytes;
+    }
+
+    void beginStep(String page, String card, int step) {
+        endStep();
+        currentStep = new StepRecord(page, card, step, System.nanoTime(), threadMXBean.getThreadAllocatedBytes(fxThreadId), getCardsPaneDirtyPasses());
+        stepRecords.add(currentStep);
+    }
+
+    void endStep() {
+        if (currentStep != null) {
+            currentStep.end(System.nanoTime(), threadMXBean.getThreadAllocatedBytes(fxThreadId), getCardsPaneDirtyPasses());
+            currentStep = null;
+        }
+    }
+
+    private static int getCardsPaneDirtyPasses() {
+        LayoutMetrics.ClassMetrics metrics = LayoutMetrics.getClassMetrics(CardsPane.class);
+        return metrics == null ? 0 : metrics.getDirtyTriggeredPasses();
+    }
+
+    String toJson(long stepMillis, String layoutMetricsJson, String backgroundCacheJson) {
+        StringBuilder sb = new StringBuilder("{\n");
+        sb.append("  \"width\": ").append(format(scene.getWidth())).append(",\n");
+        sb.append("  \"height\": ").append(format(scene.getHeight())).append(",\n");
+        sb.append("  \"stepMillis\": ").append(stepMillis).append(",\n");
+        sb.append("  \"steps\": [");
+        for (int i = 0; i < stepRecords.size(); i++) {
+            sb.append(i == 0 ? "\n" : ",\n");
+            stepRecords.get(i).appendJson(sb);
+        }
+        sb.append("\n  ],\n");
+        sb.append("  \"layoutMetrics\": ").append(layoutMetricsJson.replace("\n", "\n  ")).append(",\n");
+        sb.append("  \"backgroundCache\": ").append(backgroundCacheJson).append('\n');
+        return sb.append('}').toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static final class StepRecord {
+        final String page, card;
+        final int step;
+        final long startNanos, startAllocatedBytes;
+        final int startCardsPaneDirtyPasses;
+        long durationNanos, allocatedBytes;
+        int cardsPaneDirtyPasses;
+        final List<double[]> pulses = new ArrayList<>(); // layout millis, render millis, frame millis, allocated bytes
+
+        StepRecord(String page, String card, int step, long startNanos, long startAllocatedBytes, int startCardsPaneDirtyPasses) {
+            this.page = page;
+            this.card = card;
+            this.step = step;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+            this.startCardsPaneDirtyPasses = startCardsPaneDirtyPasses;
+        }
+
+        void addPulse(long layoutNanos, long renderNanos, long frameNanos, long allocatedBytes) {
+            pulses.add(new double[] { layoutNanos / NANOS_IN_MILLI, renderNanos / NANOS_IN_MILLI, frameNanos / NANOS_IN_MILLI, allocatedBytes });
+        }
+
+        void end(long endNanos, long endAllocatedBytes, int endCardsPaneDirtyPasses) {
+            durationNanos = endNanos - startNanos;
+            allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+            cardsPaneDirtyPasses = endCardsPaneDirtyPasses - startCardsPaneDirtyPasses;
+        }
+
+        void appendJson(StringBuilder sb) {
+            double seconds = durationNanos / 1e9;
+            sb.append("    {\"page\": \"").append(page).append("\", \"card\": \"").append(card).append("\", \"step\": ").append(step)
+                    .append(", \"pulses\": ").append(pulses.size())
+                    .append(", \"allocatedBytes\": ").append(allocatedBytes)
+                    .append(", \"allocationRateMBps\": ").append(format(seconds == 0 ? 0 : allocatedBytes / seconds / (1024 * 1024)))
+                    .append(", \"cardsPaneDirtyPasses\": ").append(cardsPaneDirtyPasses);
+            appendColumnJson(sb, "layoutMillis", 0);
+            appendColumnJson(sb, "renderMillis", 1);
+            appendColumnJson(sb, "frameMillis", 2);
+            appendColumnJson(sb, "allocatedBytesPerPulse", 3);
+            sb.append('}');
+        }
+
+        private void appendColumnJson(StringBuilder sb, String name, int column) {
+            double[] values = pulses.stream().mapToDouble(p -> p[column]).toArray();
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            sb.append(",\n      \"").append(name).append("\": {")
+                    .append("\"mean\": ").append(format(Arrays.stream(values).average().orElse(0)))
+                    .append(", \"p95\": ").append(format(percentile(sorted, 0.95)))
+                    .append(", \"max\": ").append(format(sorted.length == 0 ? 0 : sorted[sorted.length - 1]))
+                    .append(", \"pulses\": [");
+            for (int i = 0; i < values.length; i++)
+                sb.append(i == 0 ? "" : ", ").append(format(values[i]));
+            sb.append("]}");
+        }
+
+        private static double percentile(double[] sorted, double percentile) {
+            if (sorted.length == 0)
+                return 0;
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+        }
+    }
+}
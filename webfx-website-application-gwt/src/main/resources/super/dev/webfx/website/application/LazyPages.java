@@ -0,0 +1,80 @@
+package dev.webfx.website.application;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
+import dev.webfx.platform.console.Console;
+import dev.webfx.website.application.cards.BlogCard;
+import dev.webfx.website.application.cards.CardsPane;
+import dev.webfx.website.application.cards.DocumentationCard;
+import dev.webfx.website.application.cards.GitHubCard;
+import dev.webfx.website.application.demos.DemosPage;
+
+import java.util.function.Consumer;
+
+/**
+ * GWT version of LazyPages (super-source). Each page is created behind its own split point, so the page code (and the
+ * illustration panes it pulls in) is downloaded as a separate fragment on first navigation, or earlier on prefetch.
+ *
+ * A failed download is logged and reported to the failure handler (so the caller can request the page again later).
+ *
+ * Note: there must be a single runAsync() call per split point, and the page must be instantiated inside its
+ * callback only, otherwise the GWT compiler would keep the page code in the initial fragment.
+ *
+ * @author Bruno Salmon
+ */
+final class LazyPages {
+
+    static void createDemosPage(Consumer<DemosPage> pageConsumer, Runnable failureHandler) {
+        runDemosPageSplitPoint(pageConsumer, failureHandler);
+    }
+
+    static void prefetchDemosPage() {
+        runDemosPageSplitPoint(null, null);
+    }
+
+    private static void runDemosPageSplitPoint(Consumer<DemosPage> pageConsumer, Runnable failureHandler) {
+        GWT.runAsync(DemosPage.class, new RunAsyncCallback() {
+            @Override
+            public void onFailure(Throwable reason) {
+                Console.log("Failed to load the demos page code", reason);
+                if (failureHandler != null)
+                    failureHandler.run();
+            }
+
+            @Override
+            public void onSuccess() {
+                if (pageConsumer != null)
+                    pageConsumer.accept(new DemosPage());
+            }
+        });
+    }
+
+    static void createStartPage(Consumer<CardsPane> pageConsumer, Runnable failureHandler) {
+        runStartPageSplitPoint(pageConsumer, failureHandler);
+    }
+
+    static void prefetchStartPage() {
+        runStartPageSplitPoint(null, null);
+    }
+
+    private static void runStartPageSplitPoint(Consumer<CardsPane> pageConsumer, Runnable failureHandler) {
+        GWT.runAsync(DocumentationCard.class, new RunAsyncCallback() {
+            @Override
+            public void onFailure(Throwable reason) {
+                Console.log("Failed to load the start page code", reason);
+                if (failureHandler != null)
+                    failureHandler.run();
+            }
+
+            @Override
+            public void onSuccess() {
+                if (pageConsumer != null)
+                    pageConsumer.accept(new CardsPane(
+                            new DocumentationCard(),
+                            new BlogCard(),
+                            new GitHubCard()
+                    ));
+            }
+        });
+    }
+}
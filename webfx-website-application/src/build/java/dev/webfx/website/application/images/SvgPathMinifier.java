@@ -0,0 +1,228 @@
+package dev.webfx.website.application.images;
+
+import dev.webfx.website.application.shared.SvgPathParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Build-time tool that rewrites the SVG path strings of SvgLogoPaths.java into a minified copy of that source file:
+ * - coordinates are rounded to a configurable number of decimal places (default 2)
+ * - each command is written in its absolute or relative form, whichever is shorter
+ * - redundant separators, leading zeros and repeated command letters are removed
+ *
+ * Rounding is applied on absolute positions (relative values are computed from the rounded positions), so the error
+ * doesn't accumulate along the path. The original source file is left untouched, and a size report is printed (and
+ * optionally written to a file).
+ *
+ * This class is not part of the application. It's launched as a single-file source program by the GWT build, with the
+ * compiled application classes in the class path (to reuse the SVG path tokenizer of the application, SvgPathParser):
+ * java -cp <application classes> SvgPathMinifier.java <input SvgLogoPaths.java> <output SvgLogoPaths.java> [precision] [report file]
+ *
+ * @author Bruno Salmon
+ */
+public final class SvgPathMinifier {
+
+    private static final Pattern METHOD_PATTERN = Pattern.compile("public static String (\\w+)\\(\\)\\s*\\{\\s*return \"([^\"]*)\";");
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java SvgPathMinifier.java <input> <output> [precision] [report]");
+            System.exit(1);
+        }
+        Path input = Paths.get(args[0]), output = Paths.get(args[1]);
+        int precision = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        String source = new String(Files.readAllBytes(input), StandardCharsets.UTF_8);
+        StringBuilder minifiedSource = new StringBuilder(), report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "SVG paths minification report (precision = %d)%n", precision));
+        long totalOriginal = 0, totalMinified = 0;
+        Matcher matcher = METHOD_PATTERN.matcher(source);
+        while (matcher.find()) {
+            String methodName = matcher.group(1), path = matcher.group(2);
+            String minifiedPath = new PathMinifier(path, precision).minify();
+            matcher.appendReplacement(minifiedSource, Matcher.quoteReplacement(
+                    matcher.group().replace('"' + path + '"', '"' + minifiedPath + '"')));
+            totalOriginal += path.length();
+            totalMinified += minifiedPath.length();
+            report.append(reportLine(methodName, path.length(), minifiedPath.length()));
+        }
+        matcher.appendTail(minifiedSource);
+        report.append(reportLine("TOTAL", totalOriginal, totalMinified));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, minifiedSource.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.print(report);
+        if (args.length > 3) {
+            Path reportPath = Paths.get(args[3]);
+            Files.createDirectories(reportPath.toAbsolutePath().getParent());
+            Files.write(reportPath, report.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String reportLine(String name, long originalLength, long minifiedLength) {
+        return String.format(Locale.ROOT, "%-24s %8d -> %8d chars (-%.1f%%)%n", name, originalLength, minifiedLength,
+                originalLength == 0 ? 0 : 100d * (originalLength - minifiedLength) / originalLength);
+    }
+
+    private static final class PathMinifier implements SvgPathParser.Handler {
+        private final String s;
+        private final long scale;
+        private final int precision;
+        private final StringBuilder out = new StringBuilder();
+        private char lastEmittedCommand;
+        private boolean lastNumberHasDot, lastWasCommand;
+        // The original (unrounded) absolute position, used to read the relative values of the input path
+        private double ax, ay, aStartX, aStartY;
+        // The rounded position (as computed by the renderer from the output path) expressed in units of 10^-precision,
+        // so the relative values computed from it are exact
+        private long x, y, startX, startY;
+
+        PathMinifier(String s, int precision) {
+            this.s = s;
+            this.precision = precision;
+            scale = (long) Math.pow(10, precision);
+        }
+
+        String minify() {
+            SvgPathParser.parse(s, this); // Same tokenizer as the application (SvgPathGeometry)
+            return out.toString();
+        }
+
+        @Override
+        public void onCommand(char command, double[] args) {
+            boolean relative = Character.isLowerCase(command);
+            char upper = Character.toUpperCase(command);
+            double ox = relative ? ax : 0, oy = relative ? ay : 0;
+            double[] absoluteValues; // Absolute (unrounded) values of the command
+            int relativeFrom = 0, relativeTo;
+            switch (upper) {
+                case 'H':
+                    absoluteValues = new double[] { ox + args[0] };
+                    relativeTo = 1;
+                    break;
+                case 'V':
+                    absoluteValues = new double[] { oy + args[0] };
+                    relativeTo = 1;
+                    break;
+                case 'A':
+                    absoluteValues = args.clone(); // rx, ry, x-axis rotation, large arc flag, sweep flag, x, y
+                    absoluteValues[5] += ox;
+                    absoluteValues[6] += oy;
+                    relativeFrom = 5;
+                    relativeTo = 7;
+                    break;
+                case 'Z':
+                    emitCommand('z');
+                    ax = aStartX; ay = aStartY;
+                    x = startX; y = startY;
+                    return;
+                default: // M, L, T, S, Q, C: only coordinates (alternatively x & y)
+                    absoluteValues = new double[args.length];
+                    for (int k = 0; k < args.length; k++)
+                        absoluteValues[k] = (k % 2 == 0 ? ox : oy) + args[k];
+                    relativeTo = args.length;
+            }
+            long[] values = new long[absoluteValues.length];
+            for (int k = 0; k < values.length; k++)
+                values[k] = round(absoluteValues[k]);
+            int last = values.length - 1;
+            if (upper == 'H') {
+                emitShortest(upper, x, x, values, 0, 1);
+                ax = absoluteValues[0];
+                x = values[0];
+            } else if (upper == 'V') {
+                emitShortest(upper, y, y, values, 0, 1);
+                ay = absoluteValues[0];
+                y = values[0];
+            } else {
+                emitShortest(upper, x, y, values, relativeFrom, relativeTo);
+                ax = absoluteValues[last - 1]; ay = absoluteValues[last];
+                x = values[last - 1]; y = values[last];
+            }
+            if (upper == 'M') {
+                aStartX = ax; aStartY = ay;
+                startX = x; startY = y;
+            }
+        }
+
+        // Emits the command in its absolute or relative form (whichever is shorter). The values in the range
+        // [relativeFrom, relativeTo[ are coordinates (alternatively x & y) that are made relative in the relative form.
+        private void emitShortest(char upper, long x, long y, long[] values, int relativeFrom, int relativeTo) {
+            long[] relativeValues = values.clone();
+            for (int k = relativeFrom; k < relativeTo; k++)
+                relativeValues[k] -= (k - relativeFrom) % 2 == 0 ? x : y;
+            char lowerCommand = Character.toLowerCase(upper);
+            String absolute = format(upper, values), relative = format(lowerCommand, relativeValues);
+            boolean useRelative = relative.length() <= absolute.length();
+            char command = useRelative ? lowerCommand : upper;
+            emitCommand(command);
+            for (long value : useRelative ? relativeValues : values)
+                emitNumber(formatNumber(value));
+        }
+
+        private String format(char command, long[] values) {
+            // Measuring the emitted length of a command (with the current state of the output), then reverting it
+            char savedCommand = lastEmittedCommand;
+            boolean savedDot = lastNumberHasDot, savedWasCommand = lastWasCommand;
+            int start = out.length();
+            emitCommand(command);
+            for (long value : values)
+                emitNumber(formatNumber(value));
+            String result = out.substring(start);
+            out.setLength(start);
+            lastEmittedCommand = savedCommand;
+            lastNumberHasDot = savedDot;
+            lastWasCommand = savedWasCommand;
+            return result;
+        }
+
+        private void emitCommand(char command) {
+            // The command letter can be omitted when repeated (but not after a move, as implicit commands are lines)
+            if (command == lastEmittedCommand && command != 'M' && command != 'm' && command != 'z' && command != 'Z')
+                return;
+            out.append(command);
+            lastEmittedCommand = command;
+            lastWasCommand = true;
+        }
+
+        private void emitNumber(String number) {
+            if (!lastWasCommand && out.length() > 0) {
+                boolean noSeparatorNeeded = number.charAt(0) == '-' || number.charAt(0) == '.' && lastNumberHasDot;
+                if (!noSeparatorNeeded)
+                    out.append(' ');
+            }
+            out.append(number);
+            lastNumberHasDot = number.indexOf('.') >= 0;
+            lastWasCommand = false;
+        }
+
+        private String formatNumber(long units) {
+            boolean negative = units < 0;
+            long abs = Math.abs(units), intPart = abs / scale, fracPart = abs % scale;
+            StringBuilder sb = new StringBuilder();
+            if (negative && abs != 0)
+                sb.append('-');
+            if (intPart != 0 || fracPart == 0)
+                sb.append(intPart);
+            if (fracPart != 0) {
+                String frac = Long.toString(fracPart);
+                while (frac.length() < precision)
+                    frac = '0' + frac;
+                int end = frac.length();
+                while (frac.charAt(end - 1) == '0')
+                    end--;
+                sb.append('.').append(frac, 0, end);
+            }
+            return sb.toString();
+        }
+
+        private long round(double value) {
+            return Math.round(value * scale);
+        }
+    }
+}
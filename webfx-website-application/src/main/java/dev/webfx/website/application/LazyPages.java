@@ -0,0 +1,45 @@
+package dev.webfx.website.application;
+
+import dev.webfx.website.application.cards.BlogCard;
+import dev.webfx.website.application.cards.CardsPane;
+import dev.webfx.website.application.cards.DocumentationCard;
+import dev.webfx.website.application.cards.GitHubCard;
+import dev.webfx.website.application.demos.DemosPage;
+
+import java.util.function.Consumer;
+
+/**
+ * Creates the pages that are not shown on the landing page (demos page & start page). This is the JVM version, where
+ * the pages are simply created synchronously. The GWT version (super-source in webfx-website-application-gwt) creates
+ * them behind split points, so their code is downloaded as separate fragments on first navigation (or prefetch).
+ *
+ * The failure callback is called if the page code couldn't be downloaded (never on the JVM), so the caller can request
+ * the page again later.
+ *
+ * Note: the pages must be instantiated in this class only (and not by the caller), otherwise the GWT compiler would
+ * keep their code in the initial fragment.
+ *
+ * @author Bruno Salmon
+ */
+final class LazyPages {
+
+    static void createDemosPage(Consumer<DemosPage> pageConsumer, Runnable failureHandler) {
+        pageConsumer.accept(new DemosPage());
+    }
+
+    static void prefetchDemosPage() {
+        // Nothing to prefetch on the JVM
+    }
+
+    static void createStartPage(Consumer<CardsPane> pageConsumer, Runnable failureHandler) {
+        pageConsumer.accept(new CardsPane(
+                new DocumentationCard(),
+                new BlogCard(),
+                new GitHubCard()
+        ));
+    }
+
+    static void prefetchStartPage() {
+        // Nothing to prefetch on the JVM
+    }
+}
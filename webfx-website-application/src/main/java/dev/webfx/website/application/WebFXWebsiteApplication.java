@@ -5,6 +5,8 @@ import dev.webfx.platform.uischeduler.UiScheduler;
 import dev.webfx.platform.windowlocation.WindowLocation;
 import dev.webfx.website.application.cards.*;
 import dev.webfx.website.application.demos.DemosPage;
+import dev.webfx.website.application.shared.AnimationGovernor;
+import dev.webfx.website.application.shared.GithubGradientCache;
 import dev.webfx.website.application.shared.LayoutPane;
 import dev.webfx.website.application.shared.WebSiteShared;
 import javafx.animation.AnimationTimer;
@@ -15,6 +17,7 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.Scene;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.text.Text;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
@@ -33,7 +36,7 @@ public final class WebFXWebsiteApplication extends Application {
     private final Text webFxText = createWebFxSvgText();
     private final Text demosText = setUpText(new SvgText("Demos"), 50, true, false, true, true);
     private final Text startText = setUpText(new SvgText("Start"), 50, true, false, true, true);
-    private DemosPage demosPage; // lazy initialisation
+    private DemosPage demosPage; // lazy initialisation (see LazyPages)
     private final CardsPane webFXPage = new CardsPane(
             new WebFXCard(),
             new CrossPlatformCard(),
@@ -41,8 +44,10 @@ public final class WebFXWebsiteApplication extends Application {
             new LongTermCard(),
             new ResponsiveCard(),
             new MagicalCard());
-    private CardsPane startPage; // lazy initialisation
+    private CardsPane startPage; // lazy initialisation (see LazyPages)
+    private boolean demosPageRequested, startPageRequested;
     private boolean showDemosPage, showWebFXPage = true, showStartPage;
+    private boolean requestedDemosPage, requestedWebFXPage = true, requestedStartPage; // latest navigation (see showRequestedPage())
     private AnimationTimer webFxFillAnimationTimer;
     private final LayoutPane containerPane = new LayoutPane(demosText, webFxText, startText, webFXPage) {
         @Override
@@ -84,6 +89,10 @@ public final class WebFXWebsiteApplication extends Application {
         runOnMouseClick(webFxText, () -> showPage(false, true, false));
         runOnMouseClick(startText, () -> showPage(false, false, true));
 
+        // Prefetching the code of the lazy pages as soon as the user shows an interest for them
+        demosText.addEventHandler(MouseEvent.MOUSE_ENTERED, e -> LazyPages.prefetchDemosPage());
+        startText.addEventHandler(MouseEvent.MOUSE_ENTERED, e -> LazyPages.prefetchStartPage());
+
         webFxText.setOnMouseEntered(e -> startWebFXFillAnimation());
         webFxText.setOnMouseExited( e -> stopWebFXFillAnimation());
 
@@ -106,32 +115,47 @@ public final class WebFXWebsiteApplication extends Application {
         text.setStrokeWidth(fontSize >= 70 ? 2 : 1);
     }
 
+    // Called once a lazy page is loaded. The user may have navigated elsewhere in the meantime, so this shows the page of
+    // the latest navigation (and not the one that triggered the page loading).
+    private void showRequestedPage() {
+        showPage(requestedDemosPage, requestedWebFXPage, requestedStartPage);
+    }
+
     private void showPage(boolean showDemosPage, boolean showWebFXPage, boolean showStartPage) {
+        requestedDemosPage = showDemosPage;
+        requestedWebFXPage = showWebFXPage;
+        requestedStartPage = showStartPage;
         if (this.showDemosPage == showDemosPage && this.showWebFXPage == showWebFXPage && this.showStartPage == showStartPage)
             return;
         if (showDemosPage && demosPage == null) {
-            // Creating the demo pane and adding it to the cards pane
-            containerPane.getChildren().add(demosPage = new DemosPage());
-            demosPage.setOpacity(0);
-            // Postponing the fade effect after the next layout pass (which may take time to consider the demo pane addition)
-            Platform.runLater(() -> showPage(true, showWebFXPage, showStartPage));
+            if (!demosPageRequested) {
+                demosPageRequested = true;
+                // Creating the demo pane (its code may need to be downloaded first) and adding it to the cards pane
+                LazyPages.createDemosPage(page -> {
+                    containerPane.getChildren().add(demosPage = page);
+                    demosPage.setOpacity(0);
+                    // Postponing the fade effect after the next layout pass (which may take time to consider the demo pane addition)
+                    Platform.runLater(this::showRequestedPage);
+                }, () -> demosPageRequested = false); // So the page can be requested again after a failed download
+            }
             return;
         }
         if (showStartPage && startPage == null) {
-            // Creating the demo pane and adding it to the cards pane
-            containerPane.getChildren().add(startPage = new CardsPane(
-                    new DocumentationCard(),
-                    new BlogCard(),
-                    new GitHubCard()
-            ));
-            startPage.setOpacity(0);
-            // Postponing the fade effect after the next layout pass (which may take time to consider the demo pane addition)
-            Platform.runLater(() -> showPage(showDemosPage, showWebFXPage, true));
-            long index = 0;
-            for (Card card : startPage.cards) {
-                card.setTranslateY(containerPane.getHeight());
-                Timeline timeline = new Timeline(new KeyFrame(Duration.millis(800), new KeyValue(card.translateYProperty(), 0, EASE_OUT_INTERPOLATOR)));
-                UiScheduler.scheduleDelay(200 * index++, timeline::play);
+            if (!startPageRequested) {
+                startPageRequested = true;
+                // Creating the start pane (its code may need to be downloaded first) and adding it to the cards pane
+                LazyPages.createStartPage(page -> {
+                    containerPane.getChildren().add(startPage = page);
+                    startPage.setOpacity(0);
+                    // Postponing the fade effect after the next layout pass (which may take time to consider the start pane addition)
+                    Platform.runLater(this::showRequestedPage);
+                    long index = 0;
+                    for (Card card : startPage.cards) {
+                        card.setTranslateY(containerPane.getHeight());
+                        Timeline timeline = new Timeline(new KeyFrame(Duration.millis(800), new KeyValue(card.translateYProperty(), 0, EASE_OUT_INTERPOLATOR)));
+                        UiScheduler.scheduleDelay(200 * index++, timeline::play);
+                    }
+                }, () -> startPageRequested = false); // So the page can be requested again after a failed download
             }
             return;
         }
@@ -146,12 +170,15 @@ public final class WebFXWebsiteApplication extends Application {
         if (showDemosPage) {
             href += "#/demos";
             demosPage.setVisible(true);
+            AnimationGovernor.setShown(demosPage, true);
         } else if (showWebFXPage) {
             href += "#";
             webFXPage.setVisible(true);
+            AnimationGovernor.setShown(webFXPage, true);
         } else if (showStartPage) {
             href += "#/start";
             startPage.setVisible(true);
+            AnimationGovernor.setShown(startPage, true);
         }
         // Actual replacement of the window location
         WindowLocation.replaceHref(href);
@@ -168,12 +195,19 @@ public final class WebFXWebsiteApplication extends Application {
         fadeTimeline.setOnFinished(e -> {
             if (demosPage != null) {
                 demosPage.setVisible(showDemosPage);
+                AnimationGovernor.setShown(demosPage, showDemosPage);
                 if (showDemosPage)
                     demosPage.startVideos();
+                else // Releasing the video players while the demos page is hidden
+                    demosPage.stopVideos();
             }
             webFXPage.setVisible(showWebFXPage);
-            if (startPage != null)
+            // Suspending the animations of the hidden pages
+            AnimationGovernor.setShown(webFXPage, showWebFXPage);
+            if (startPage != null) {
                 startPage.setVisible(showStartPage);
+                AnimationGovernor.setShown(startPage, showStartPage);
+            }
         });
         fadeTimeline.play();
     }
@@ -183,7 +217,7 @@ public final class WebFXWebsiteApplication extends Application {
         webFxFillAnimationTimer = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                webFxText.setFill(createAngleGithubGradient(now / (2 * Math.PI * 100_000_000)));
+                webFxText.setFill(GithubGradientCache.getAngleGradient(now / (2 * Math.PI * 100_000_000)));
             }
         };
         webFxFillAnimationTimer.start();
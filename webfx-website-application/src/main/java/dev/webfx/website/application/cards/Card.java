@@ -2,6 +2,7 @@ package dev.webfx.website.application.cards;
 
 import dev.webfx.extras.webtext.HtmlText;
 import dev.webfx.website.application.shared.LayoutPane;
+import dev.webfx.website.application.shared.TextMeasurementCache;
 import dev.webfx.website.application.shared.WebSiteShared;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyValue;
@@ -14,7 +15,6 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
 import static dev.webfx.website.application.shared.WebSiteShared.CARD_TRANSLUCENT_BACKGROUND;
-import static dev.webfx.website.application.shared.WebSiteShared.updateFontSize;
 
 /**
  * @author Bruno Salmon
@@ -22,7 +22,6 @@ import static dev.webfx.website.application.shared.WebSiteShared.updateFontSize;
 public abstract class Card extends LayoutPane {
 
     private final static Border CARD_BORDER = new Border(new BorderStroke(Color.WHITE, BorderStrokeStyle.SOLID, new CornerRadii(10), BorderStroke.THIN));
-    private static double cardWidth, cardHeight, maxTitleHeight, maxCaptionHeight;
 
     private CardsPane cardsPane;
 
@@ -36,7 +35,7 @@ public abstract class Card extends LayoutPane {
     protected boolean forwardingStep;
     private CardTransition cardTransition;
     private String longestCaption; // Longest caption of this card (among all steps)
-    protected static String LONGEST_CAPTION; // Longest caption of all cards (among all cards panes)
+    private String longestCaptionHtml; // Same but as html text content (as measured)
 
     Card(String title) {
         this.title = title;
@@ -49,6 +48,10 @@ public abstract class Card extends LayoutPane {
         this.cardsPane = cardsPane;
     }
 
+    CardsMetrics getCardsMetrics() {
+        return cardsPane.getMetrics();
+    }
+
     public boolean checkInitialized() {
         if (initialized)
             return true;
@@ -56,8 +59,17 @@ public abstract class Card extends LayoutPane {
         return false;
     }
 
+    boolean isInitialized() {
+        return initialized;
+    }
+
+    String getLongestCaptionHtml() {
+        return longestCaptionHtml;
+    }
+
     protected void init() {
         longestCaption = computeLongestCaption();
+        longestCaptionHtml = WebSiteShared.toHtmlTextContent(longestCaption);
         titleText = WebSiteShared.setUpText(new Text(title + (hasSingleStep() ? "" : " \u2192")), 30, true, true, false, true);
         illustrationNode = createIllustrationNode();
         titleText.setMouseTransparent(true);
@@ -67,25 +79,35 @@ public abstract class Card extends LayoutPane {
         transitionToNextStep();
         setClip(clip);
         initialized = true;
-        cardWidth = 0;
+        cardsPane.getMetrics().invalidate(); // This new card's texts need to be measured
     }
 
+    // Caption measured to compute the caption height (can be overridden to align with the other cards, see DocumentationCard)
     protected String computeLongestCaption() {
-        longestCaption = "";
+        return computeStepsLongestCaption();
+    }
+
+    final String computeStepsLongestCaption() {
+        String stepsLongestCaption = "";
         for (int step = 1; caption(step) != null; step++) {
             String caption = caption(step);
-            if (caption.length() > longestCaption.length())
-                longestCaption = caption;
+            if (caption.length() > stepsLongestCaption.length())
+                stepsLongestCaption = caption;
         }
-        if (LONGEST_CAPTION == null || longestCaption.length() > LONGEST_CAPTION.length())
-            LONGEST_CAPTION = longestCaption;
-        return longestCaption;
+        return stepsLongestCaption;
     }
 
     boolean hasSingleStep() {
         return caption(2) == null;
     }
 
+    public int getStepsCount() {
+        int stepsCount = 0;
+        while (caption(stepsCount + 1) != null)
+            stepsCount++;
+        return stepsCount;
+    }
+
     abstract Node createIllustrationNode();
 
     public void transitionToNextStep() {
@@ -117,7 +139,7 @@ public abstract class Card extends LayoutPane {
         HtmlText enteringCaptionText = enteringTextIs1 ? captionText1 : captionText2;
         HtmlText leavingCaptionText  = enteringTextIs1 ? captionText2 : captionText1;
         String caption = caption(step);
-        WebSiteShared.setHtmlText(enteringCaptionText, caption == null ? null : caption + (step > 1 && caption(step + 1) != null ? " \u2192" : ""));
+        WebSiteShared.setHtmlText(enteringCaptionText, caption == null ? null : caption + (step > 1 && caption(step + 1) != null ? " \u2192" : ""), getCaptionFont());
         double width = getWidth();
         double initialEnteringX = forwardingStep ? width : -width;
         enteringCaptionText.setTranslateX(initialEnteringX);
@@ -132,31 +154,8 @@ public abstract class Card extends LayoutPane {
 
     abstract String caption(int step);
 
-    private void computeMaxTextHeights(double width, double height) {
-        if (cardWidth == width && cardHeight == height && !force)
-            return;
-        cardWidth = width; cardHeight = height;
-        maxTitleHeight = maxCaptionHeight = 0;
-        double titleFontSize   = Math.max(16, width * 0.07);
-        double captionFontSize = Math.max(16, Math.sqrt(width * height) * 0.035);
-        Font titleFont = null, captionFont = null;
-        for (Card card : cardsPane.cards) {
-            if (!card.initialized)
-                continue;
-            if (titleFont == null)
-                titleFont = updateFontSize(card.titleText.getFont(), titleFontSize, true);
-            card.titleText.setFont(titleFont);
-            maxTitleHeight = Math.max(card.titleText.prefHeight(width), maxTitleHeight);
-            if (captionFont == null)
-                captionFont = WebSiteShared.htmlTextFont = updateFontSize(card.captionText1.getFont(), captionFontSize, false);
-            card.captionText1.setFont(captionFont);
-            card.captionText2.setFont(captionFont);
-            HtmlText htmlText = card.captionText1.getTranslateX() == 0 ? card.captionText2 : card.captionText1;
-            String savedText = htmlText.getText();
-            WebSiteShared.setHtmlText(htmlText, card.longestCaption);
-            maxCaptionHeight = Math.max(htmlText.prefHeight(width), maxCaptionHeight);
-            htmlText.setText(savedText);
-        }
+    Font getCaptionFont() {
+        return getCardsMetrics().getCaptionFont();
     }
 
     @Override
@@ -167,16 +166,17 @@ public abstract class Card extends LayoutPane {
         clip.setHeight(height);
         double w = width, h = height, hgap = w * 0.02;
         w -= 2 * hgap;
-        computeMaxTextHeights(w, h);
+        CardsMetrics metrics = cardsPane.getMetrics();
+        metrics.update(this, w, h);
         double ny = h;
-        double nh = maxCaptionHeight;
+        double nh = metrics.getMaxCaptionHeight();
         double vGap = h * 0.02;
         ny -= nh + vGap;
-        captionText1.setMaxHeight(captionText1.prefHeight(w));
+        captionText1.setMaxHeight(TextMeasurementCache.getPrefHeight(captionText1, w));
         centerInArea(captionText1, hgap, ny, w, nh);
-        captionText2.setMaxHeight(captionText2.prefHeight(w));
+        captionText2.setMaxHeight(TextMeasurementCache.getPrefHeight(captionText2, w));
         centerInArea(captionText2, hgap, ny, w, nh);
-        nh = maxTitleHeight;
+        nh = metrics.getMaxTitleHeight();
         ny -= nh + vGap;
         centerInArea(titleText, hgap, ny, w, nh);
         ny += nh + vGap;
@@ -186,7 +186,7 @@ public abstract class Card extends LayoutPane {
     }
 
     double getTitleSpace() {
-        return maxTitleHeight + 0.02 * getHeight();
+        return cardsPane.getMetrics().getMaxTitleHeight() + 0.02 * getHeight();
     }
 
     double getTransitionalTitleSpace() {
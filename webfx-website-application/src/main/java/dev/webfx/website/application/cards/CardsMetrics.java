@@ -0,0 +1,94 @@
+package dev.webfx.website.application.cards;
+
+import dev.webfx.extras.webtext.HtmlText;
+import dev.webfx.website.application.shared.TextMeasurementCache;
+import javafx.scene.text.Font;
+
+import static dev.webfx.website.application.shared.WebSiteShared.updateFontSize;
+
+/**
+ * Text metrics shared by the cards of a cards pane (the max title and caption heights, so that the titles and captions
+ * of all cards are vertically aligned). They are owned by the cards pane (and not static in Card), so that the layout
+ * of a cards pane doesn't invalidate the metrics of another one (ex: the WebFX page and the start page).
+ *
+ * They are recomputed only when the card size changes, or after an explicit invalidation (ex: when a new card has
+ * been initialized), and not on each forced layout of a card (such as the one following a caption change). The caption
+ * font is also kept here, so that the cards set it on their new captions, as well as the longest caption of the pane.
+ *
+ * @author Bruno Salmon
+ */
+final class CardsMetrics {
+
+    private final CardsPane cardsPane;
+    private boolean valid;
+    private double cardWidth, cardHeight, maxTitleHeight, maxCaptionHeight;
+    private Font captionFont; // null until the first update
+    private String longestCaption; // Longest caption of all the cards of the pane (computed on first request)
+
+    CardsMetrics(CardsPane cardsPane) {
+        this.cardsPane = cardsPane;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    double getMaxTitleHeight() {
+        return maxTitleHeight;
+    }
+
+    double getMaxCaptionHeight() {
+        return maxCaptionHeight;
+    }
+
+    Font getCaptionFont() {
+        return captionFont;
+    }
+
+    String getLongestCaption() {
+        if (longestCaption == null) {
+            longestCaption = "";
+            for (Card card : cardsPane.cards) {
+                String cardLongestCaption = card.computeStepsLongestCaption();
+                if (cardLongestCaption.length() > longestCaption.length())
+                    longestCaption = cardLongestCaption;
+            }
+        }
+        return longestCaption;
+    }
+
+    // Called by each card on layout (all cards of the pane have the same size, so only the first one actually computes)
+    void update(Card layoutCard, double width, double height) {
+        if (valid && cardWidth == width && cardHeight == height)
+            return;
+        valid = true;
+        cardWidth = width; cardHeight = height;
+        double previousTitleHeight = maxTitleHeight, previousCaptionHeight = maxCaptionHeight;
+        maxTitleHeight = maxCaptionHeight = 0;
+        // Font sizes are rounded to half a pixel, and the captions are measured on a width rounded down to 8px, so that
+        // the successive sizes of a window resize reuse the same measurements (each measurement forces a browser reflow)
+        double titleFontSize   = Math.round(2 * Math.max(16, width * 0.07)) / 2d;
+        double captionFontSize = Math.round(2 * Math.max(16, Math.sqrt(width * height) * 0.035)) / 2d;
+        double captionMeasureWidth = Math.floor(width / 8) * 8;
+        Font titleFont = null, newCaptionFont = null;
+        for (Card card : cardsPane.cards) {
+            if (!card.isInitialized())
+                continue;
+            if (titleFont == null)
+                titleFont = updateFontSize(card.titleText.getFont(), titleFontSize, true);
+            card.titleText.setFont(titleFont);
+            maxTitleHeight = Math.max(TextMeasurementCache.getPrefHeight(card.titleText, width), maxTitleHeight);
+            if (newCaptionFont == null)
+                newCaptionFont = captionFont = updateFontSize(card.captionText1.getFont(), captionFontSize, false);
+            card.captionText1.setFont(newCaptionFont);
+            card.captionText2.setFont(newCaptionFont);
+            HtmlText htmlText = card.captionText1.getTranslateX() == 0 ? card.captionText2 : card.captionText1;
+            maxCaptionHeight = Math.max(TextMeasurementCache.getPrefHeight(htmlText, card.getLongestCaptionHtml(), captionMeasureWidth), maxCaptionHeight);
+        }
+        // The cards already laid out with the previous heights need a new layout to stay aligned
+        if (maxTitleHeight != previousTitleHeight || maxCaptionHeight != previousCaptionHeight)
+            for (Card card : cardsPane.cards)
+                if (card != layoutCard && card.isInitialized())
+                    card.forceLayoutChildren();
+    }
+}
@@ -1,6 +1,7 @@
 package dev.webfx.website.application.cards;
 
 import dev.webfx.platform.uischeduler.UiScheduler;
+import dev.webfx.website.application.shared.AnimationGovernor;
 import dev.webfx.website.application.shared.LayoutPane;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -23,14 +24,30 @@ public class CardsPane extends LayoutPane {
 
     public final Card[] cards;
     private int leftCardIndex, visibleCardsCount;
+    private int shownFromIndex = -1, shownToIndex = -1; // Range of the cards that are (even partially) in the viewport
     private boolean sizeChangedDuringScroll;
     private Timeline scrollTimeline;
-    private double gap, scrollTimelineEndValue;
+    private double gap, cardWidth, cardHeight, scrollTimelineEndValue;
+    // The cards are laid out side by side on a single track, and the scroll animates only the translateX of that track
+    // (one transform per frame, instead of one per card)
+    private final LayoutPane track = new LayoutPane() {
+        @Override
+        protected void layoutChildren(double width, double height) {
+            double cx = gap;
+            for (Card card : cards) {
+                layoutInArea(card, cx, 0, cardWidth, cardHeight);
+                cx += cardWidth + gap;
+            }
+        }
+    };
     private final Circle[] dots = {new Circle(), new Circle(), new Circle(), new Circle(), new Circle(), new Circle()};
+    private final IdleCardsInitializer idleCardsInitializer = new IdleCardsInitializer(this);
+    private final CardsMetrics metrics = new CardsMetrics(this);
 
     public CardsPane(Card... cards) {
-        super(cards);
         this.cards = cards;
+        track.getChildren().setAll(cards);
+        getChildren().add(track);
         for (Card card : cards)
             card.setCardsPane(this);
         setOnMouseClicked(this::onPaneClicked);
@@ -81,13 +98,13 @@ public class CardsPane extends LayoutPane {
         int rightCardIndex = getRightCardIndex(leftCardIndex);
         for (int i = leftCardIndex; i <= rightCardIndex; i++)
             cards[i].checkInitialized();
+        // The other cards will be initialized in idle time (after the first paint)
+        idleCardsInitializer.start();
         gap = Math.max(15, w * 0.01);
         w -= (visibleCardsCount + 1) * gap; h -= gap;
-        double cx = gap, cy = vh, cw = w / visibleCardsCount, ch = h - vh;
-        for (Card card : cards) {
-            layoutInArea(card, cx, cy, cw, ch);
-            cx += cw + gap;
-        }
+        cardWidth = w / visibleCardsCount; cardHeight = h - vh;
+        track.forceLayoutChildren(); // The cards size or gap may change without the track size changing
+        layoutInArea(track, 0, vh, cards.length * (cardWidth + gap) + gap, cardHeight);
         scrollToCard(leftCardIndex);
         sizeChangedDuringScroll = false;
         // Positioning the navigation dots
@@ -109,10 +126,18 @@ public class CardsPane extends LayoutPane {
         return Math.max(0, Math.min(cardIndex, maxValue));
     }
 
-    private int getLeftCardIndex() {
+    CardsMetrics getMetrics() {
+        return metrics;
+    }
+
+    int getLeftCardIndex() {
         return leftCardIndex;
     }
 
+    boolean isScrolling() {
+        return scrollTimeline != null;
+    }
+
     private int getRightCardIndex() {
         return getRightCardIndex(getLeftCardIndex());
     }
@@ -135,16 +160,19 @@ public class CardsPane extends LayoutPane {
         int rightCardIndex = getRightCardIndex(leftCardIndex);
         checkCardInitialized(rightCardIndex);
         double translateX = -leftCardIndex * (getWidth() - gap) / visibleCardsCount;
-        if (cards[0].getTranslateX() != translateX && (scrollTimeline == null || translateX != scrollTimelineEndValue)) {
+        if (track.getTranslateX() != translateX && (scrollTimeline == null || translateX != scrollTimelineEndValue)) {
             stopScrollTimeline();
             scrollTimelineEndValue = translateX;
             scrollTimeline = new Timeline(new KeyFrame(Duration.millis(500),
-                    Arrays.stream(cards).map(c -> new KeyValue(c.translateXProperty(), scrollTimelineEndValue, EASE_OUT_INTERPOLATOR)).toArray(KeyValue[]::new))
+                    new KeyValue(track.translateXProperty(), scrollTimelineEndValue, EASE_OUT_INTERPOLATOR))
             );
         }
         if (timeline != scrollTimeline) {
+            // During the scroll, both the previously shown cards and the new ones are (partially) in the viewport
+            updateShownCards(Math.min(shownFromIndex, leftCardIndex), Math.max(shownToIndex, rightCardIndex));
             scrollTimeline.setOnFinished(e -> {
                 scrollTimeline = null;
+                updateShownCards(getLeftCardIndex(), getRightCardIndex());
                 if (sizeChangedDuringScroll)
                     forceLayoutChildren();
                 // Updating navigation dots visibility
@@ -153,7 +181,20 @@ public class CardsPane extends LayoutPane {
             scrollTimeline.play();
             // Hiding navigation dots during the cards scroll animation
             updateDotsVisibility(true);
-        }
+        } else if (scrollTimeline == null)
+            updateShownCards(leftCardIndex, rightCardIndex);
+    }
+
+    private void updateShownCards(int fromIndex, int toIndex) {
+        if (fromIndex < 0) // No cards were shown so far
+            fromIndex = leftCardIndex;
+        if (fromIndex == shownFromIndex && toIndex == shownToIndex)
+            return;
+        shownFromIndex = fromIndex;
+        shownToIndex = toIndex;
+        // Telling the animation governor which cards are in the viewport (the animations of the others are suspended)
+        for (int i = 0; i < cards.length; i++)
+            AnimationGovernor.setShown(cards[i], i >= fromIndex && i <= toIndex);
     }
 
     private void updateDotsVisibility(boolean forceInvisible) {
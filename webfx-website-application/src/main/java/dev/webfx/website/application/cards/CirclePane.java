@@ -1,29 +1,43 @@
 package dev.webfx.website.application.cards;
 
+import dev.webfx.website.application.shared.BackgroundCache;
 import dev.webfx.website.application.shared.LayoutPane;
 import dev.webfx.extras.panes.ScalePane;
 import dev.webfx.website.application.shared.WebSiteShared;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.geometry.Bounds;
 import javafx.geometry.VPos;
 import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * @author Bruno Salmon
  */
 final class CirclePane extends LayoutPane {
 
+    private final static String LETTERS_FONT_FAMILY = Font.getDefault().getFamily();
+    private final static double MEASURE_FONT_SIZE = 100;
+    private final static Map<Character, Double> LETTER_WIDTHS = new HashMap<>();
+
     private final double angle, lettersAngle, lettersAngleLength;
     private final boolean showBorder;
     private double radius;
-    private final Text[] circleLetters;
+    private CornerRadii radii;
+    private BorderWidths borderWidths;
+    private final String circleText;
+    private final Canvas lettersCanvas; // The letters are drawn along the circle on a single canvas (repainted only on resize)
+    private final Text measureText; // Hidden text used to measure the letters widths (once per letter, see LETTER_WIDTHS)
+    private double paintedSize;
     private Paint stroke = Color.WHITE;
     private final ScalePane topScalePane, bottomScalePane;
     private final ObjectProperty<Paint> fillProperty = new SimpleObjectProperty<Paint>() {
@@ -44,9 +58,17 @@ final class CirclePane extends LayoutPane {
         this.showBorder = showBorder;
         topScalePane = createScalePane(topNode);
         bottomScalePane = createScalePane(bottomNode);
-        circleLetters = circleText == null ? null : createLetters(circleText);
-        if (circleLetters != null)
-            getChildren().setAll(circleLetters);
+        this.circleText = circleText;
+        lettersCanvas = circleText == null ? null : new Canvas();
+        measureText = circleText == null ? null : new Text();
+        if (lettersCanvas != null) {
+            lettersCanvas.setManaged(false);
+            lettersCanvas.setMouseTransparent(true);
+            measureText.setFont(Font.font(LETTERS_FONT_FAMILY, MEASURE_FONT_SIZE));
+            measureText.setManaged(false);
+            measureText.setVisible(false);
+            getChildren().setAll(lettersCanvas, measureText);
+        }
         if (topScalePane != null)
             getChildren().add(topScalePane);
         if (bottomScalePane != null)
@@ -86,45 +108,33 @@ final class CirclePane extends LayoutPane {
             setMinSize(d, d);
             setPrefSize(d, d);
             setMaxSize(d, d);
+            radii = new CornerRadii(radius);
+            borderWidths = new BorderWidths(radius * 0.05);
             updateBackground(true);
         }
     }
 
     private void updateBackground(boolean updateBorder) {
-        CornerRadii radii = new CornerRadii(radius);
-        WebSiteShared.setRegionBackground(this, getFill(), radii);
+        // The radii are created only when the radius changes (not on each fill change, as the fill may be animated)
+        // A fill change (possibly animated) is not cached, as each intermediate color would evict a reusable entry
+        WebSiteShared.setRegionBackground(this, getFill(), radii, updateBorder);
         if (updateBorder && showBorder)
-            setBorder(new Border(new BorderStroke(stroke, BorderStrokeStyle.SOLID, radii, new BorderWidths(radius * 0.05))));
+            setBorder(BackgroundCache.getBorder(stroke, radii, borderWidths));
     }
 
     double getAngle() {
         return angle;
     }
 
-    private Text[] createLetters(String text) {
-        //return text.chars().mapToObj(c -> createLetter("" + (char) c)).toArray(Text[]::new);
-        Text[] letters = new Text[text.length()];
-        for (int i = 0; i < letters.length; i++) {
-            letters[i] = createLetter("" + text.charAt(i));
+    @Override
+    protected void layoutChildren(double width, double height) {
+        double size = Math.min(width, height);
+        if (lettersCanvas != null && size > 0 && size != paintedSize) {
+            paintedSize = size;
+            paintLetters(width, height, size);
         }
-        return letters;
-
-    }
-
-    private Text createLetter(String text) {
-        Text letter = new Text(text);
-        letter.setFill(Color.WHITE);
-        letter.setMouseTransparent(true);
-        //letter.setTextAlignment(TextAlignment.CENTER);
-        letter.setTextOrigin(VPos.TOP);
-        letter.setManaged(false); // Workaround to avoid an async infinite loop in layoutChildren() (Web version only)
-        return letter;
-    }
-
-    protected void layoutChildren() {
-        super.layoutChildren();
         if (topScalePane != null || bottomScalePane != null) {
-            double width = getWidth(), height = getHeight(), h = 0.3 * height;
+            double h = 0.3 * height;
             if (bottomScalePane == null) {
                 double dy = -0.04 * height;
                 layoutInArea(topScalePane, 0, height / 2 - h / 2 + dy, width, h);
@@ -137,37 +147,48 @@ final class CirclePane extends LayoutPane {
         }
     }
 
-
-    @Override
-    protected void layoutChildren(double width, double height) {
-        double size = Math.min(width, height);
-        if (circleLetters != null) {
-            double r = size / 2;
-            double length = Arrays.stream(circleLetters).mapToDouble(l -> getLetterBounds(l).getWidth()).sum();
-            boolean top = lettersAngle < 0;
-            double middleAngle = (top ? -1 : +1) * Math.PI / 2;  //lettersAngle * Math.PI / 180;
-            double anglePerLength = lettersAngleLength * Math.PI / 180 / length * (top ? 1 : -1);
-            double angle = middleAngle - anglePerLength * length / 2;
-            double fontSize = r * 0.2;
-            for (Text letter : circleLetters) {
-                WebSiteShared.updateTextFontSize(letter, fontSize, false);
-                double lw = getLetterBounds(letter).getWidth();
-                if (lw == 0) // this happens only in the browser (not OpenJFX) for the space character
-                    lw = 4; // Correcting the values to make the expected space between the letters
-                angle += anglePerLength * lw / 2;
-                if (letter.getRotate() != angle) {
-                    letter.setRotate(angle / Math.PI * 180 + (top ? 90 : -90));
-                    centerInArea(letter, width / 2 + 0.75 * r * Math.cos(angle), height / 2 + 0.75 * r * Math.sin(angle), 0, 0);
-                }
-                angle += anglePerLength * lw / 2;
-            }
+    private void paintLetters(double width, double height, double size) {
+        lettersCanvas.setWidth(width);
+        lettersCanvas.setHeight(height);
+        GraphicsContext ctx = lettersCanvas.getGraphicsContext2D();
+        ctx.clearRect(0, 0, width, height);
+        double r = size / 2, fontSize = r * 0.2, fontScale = fontSize / MEASURE_FONT_SIZE;
+        double[] letterWidths = new double[circleText.length()];
+        double length = 0;
+        for (int i = 0; i < letterWidths.length; i++) {
+            double lw = getLetterWidth(circleText.charAt(i)) * fontScale;
+            if (lw == 0) // this happens only in the browser (not OpenJFX) for the space character
+                lw = 4; // Correcting the values to make the expected space between the letters
+            length += letterWidths[i] = lw;
+        }
+        boolean top = lettersAngle < 0;
+        double middleAngle = (top ? -1 : +1) * Math.PI / 2;  //lettersAngle * Math.PI / 180;
+        double anglePerLength = lettersAngleLength * Math.PI / 180 / length * (top ? 1 : -1);
+        double angle = middleAngle - anglePerLength * length / 2;
+        ctx.setFont(Font.font(LETTERS_FONT_FAMILY, fontSize));
+        ctx.setFill(Color.WHITE);
+        ctx.setTextAlign(TextAlignment.CENTER);
+        ctx.setTextBaseline(VPos.CENTER);
+        for (int i = 0; i < letterWidths.length; i++) {
+            angle += anglePerLength * letterWidths[i] / 2;
+            ctx.save();
+            ctx.translate(width / 2 + 0.75 * r * Math.cos(angle), height / 2 + 0.75 * r * Math.sin(angle));
+            ctx.rotate(angle / Math.PI * 180 + (top ? 90 : -90));
+            ctx.fillText(String.valueOf(circleText.charAt(i)), 0, 0);
+            ctx.restore();
+            angle += anglePerLength * letterWidths[i] / 2;
         }
     }
 
-    private Bounds getLetterBounds(Text letter) {
-        Bounds bounds = (Bounds) letter.getProperties().get("letterBounds");
-        if (bounds == null)
-            letter.getProperties().put("letterBounds", bounds = letter.getBoundsInLocal());
-        return bounds;
+    private double getLetterWidth(char letter) {
+        // The widths are measured at a reference font size (and then scaled), and shared by all circle panes
+        Double width = LETTER_WIDTHS.get(letter);
+        if (width == null) {
+            measureText.setText(String.valueOf(letter));
+            width = measureText.getBoundsInLocal().getWidth();
+            if (width > 0) // Not caching the space character width (which may be 0 in the browser, see paintLetters())
+                LETTER_WIDTHS.put(letter, width);
+        }
+        return width;
     }
 }
@@ -0,0 +1,101 @@
+package dev.webfx.website.application.cards;
+
+import dev.webfx.platform.uischeduler.AnimationFramePass;
+import dev.webfx.platform.uischeduler.UiScheduler;
+import dev.webfx.website.application.shared.LayoutPane;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Grid of colored cells (the JavaFX classes of the GWT compilation animation) painted on a single canvas, instead of
+ * one region per cell. The cell colors are stored in a primitive ARGB array, and the color changes that happen in the
+ * same animation frame (ex: a fade of all the dead classes) are coalesced into a single repaint.
+ *
+ * @author Bruno Salmon
+ */
+final class ClassGridCanvas extends LayoutPane {
+
+    private final static int GRID_GAP = 2;
+
+    private final int columns, rows;
+    private final int[] cellArgbs;
+    private final Canvas canvas = new Canvas();
+    private boolean showGrid;
+    private boolean repaintRequested;
+
+    ClassGridCanvas(int columns, int rows, Color color) {
+        this.columns = columns;
+        this.rows = rows;
+        cellArgbs = new int[columns * rows];
+        Arrays.fill(cellArgbs, toArgb(color));
+        getChildren().setAll(canvas);
+    }
+
+    int getCellCount() {
+        return cellArgbs.length;
+    }
+
+    void setCellColor(int index, Color color) {
+        int argb = toArgb(color);
+        if (cellArgbs[index] != argb) {
+            cellArgbs[index] = argb;
+            requestRepaint();
+        }
+    }
+
+    void setShowGrid(boolean showGrid) {
+        if (this.showGrid != showGrid) {
+            this.showGrid = showGrid;
+            requestRepaint();
+        }
+    }
+
+    @Override
+    protected void layoutChildren(double width, double height) {
+        canvas.setWidth(width);
+        canvas.setHeight(height);
+        paint();
+    }
+
+    private void requestRepaint() {
+        if (!repaintRequested) {
+            repaintRequested = true;
+            UiScheduler.scheduleInAnimationFrame(this::paint, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+        }
+    }
+
+    private void paint() {
+        repaintRequested = false;
+        double width = canvas.getWidth(), height = canvas.getHeight();
+        GraphicsContext ctx = canvas.getGraphicsContext2D();
+        ctx.clearRect(0, 0, width, height);
+        double cellWidth = width / columns, cellHeight = height / rows, gap = showGrid ? GRID_GAP : 0;
+        int lastArgb = 0;
+        Color lastColor = null;
+        for (int row = 0, i = 0; row < rows; row++)
+            for (int col = 0; col < columns; col++, i++) {
+                int argb = cellArgbs[i];
+                if (argb >>> 24 == 0) // Transparent cell
+                    continue;
+                if (lastColor == null || argb != lastArgb) { // Consecutive cells usually have the same color
+                    ctx.setFill(lastColor = fromArgb(argb));
+                    lastArgb = argb;
+                }
+                ctx.fillRect(col * cellWidth, row * cellHeight, cellWidth - gap, cellHeight - gap);
+            }
+    }
+
+    private static int toArgb(Color color) {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+                | (int) Math.round(color.getRed()   * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue()  * 255);
+    }
+
+    private static Color fromArgb(int argb) {
+        return Color.rgb(argb >> 16 & 0xFF, argb >> 8 & 0xFF, argb & 0xFF, (argb >>> 24) / 255d);
+    }
+}
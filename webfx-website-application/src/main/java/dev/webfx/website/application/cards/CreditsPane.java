@@ -2,23 +2,26 @@ package dev.webfx.website.application.cards;
 
 import dev.webfx.platform.uischeduler.UiScheduler;
 import dev.webfx.website.application.images.ImageLoader;
+import dev.webfx.website.application.shared.AnimationGovernor;
 import dev.webfx.website.application.shared.LayoutPane;
+import dev.webfx.website.application.shared.TextMeasurementCache;
 import dev.webfx.website.application.shared.WebSiteShared;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
-import javafx.geometry.Pos;
-import javafx.scene.Node;
+import javafx.geometry.VPos;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
 import javafx.util.Duration;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 import static dev.webfx.website.application.shared.WebSiteShared.setUpText;
 
@@ -79,56 +82,123 @@ final class CreditsPane extends LayoutPane {
             "& many others..."
     };
 
+    private final static double ROWS_SPACING = 10;
+
     private final Card card;
     private final int cardStep;
     private final HBox javaFxLogo = WebSiteShared.createJavaFxLogo();
     private final ImageView ltsImageView = ImageLoader.loadImage("LTS.png");
-    private final VBox creditsBox = new VBox(10, Arrays.stream(credits).map(CreditsPane::createText).toArray(Node[]::new));
+    // The rows (the credits + the LTS image as last row) are materialised only while in the visible window, and scroll
+    // with the translateY of the rows pane (no relayout). The Text nodes of the rows leaving the window are recycled.
+    private final Pane rowsPane = new Pane();
+    private final Rectangle rowsClip = new Rectangle();
+    private final Text[] rowTexts = new Text[credits.length]; // Text currently showing each credit (null if none)
+    private final List<Text> recycledTexts = new ArrayList<>();
+    private final Text measureText = createText(null); // Used to measure the rows not materialised
+    private final double[] rowTops = new double[credits.length + 1];
+    private double rowsWidth, logoHeight, ltsHeight;
     private final DoubleProperty creditsBottomDistanceProperty = new SimpleDoubleProperty() {
         @Override
         protected void invalidated() {
             if (card.currentAnimationStep == cardStep)
-                forceLayoutChildren();
+                updateScroll();
         }
     };
 
     private static Text createText(String text) {
-        return setUpText(new Text(text), 20, false, true, false, false);
+        Text t = setUpText(new Text(text), 20, false, true, false, false);
+        t.setTextOrigin(VPos.TOP);
+        t.setTextAlignment(TextAlignment.CENTER); // Centered within the wrapping width (which is the pane width)
+        t.setManaged(false);
+        return t;
     }
 
-
     public CreditsPane(Card card) {
         this.card = card;
         cardStep = card.currentAnimationStep;
         ltsImageView.setEffect(WebSiteShared.dropShadow);
-        creditsBox.getChildren().add(ltsImageView);
-        creditsBox.setAlignment(Pos.TOP_CENTER);
-        getChildren().setAll(creditsBox, javaFxLogo);
+        ltsImageView.setManaged(false);
+        ltsImageView.setVisible(false);
+        measureText.setVisible(false);
+        rowsPane.getChildren().setAll(measureText, ltsImageView);
+        rowsPane.setClip(rowsClip);
+        rowsPane.setManaged(false); // So the rows changes don't request a layout of this pane
+        getChildren().setAll(rowsPane, javaFxLogo);
+        addLayoutDependencies(ltsImageView.getImage().progressProperty()); // The LTS image size is known once loaded
         UiScheduler.scheduleInAnimationFrame(() -> {
-            double h = creditsBox.prefHeight(getWidth());
-            new Timeline(new KeyFrame(Duration.minutes(0.8), new KeyValue(creditsBottomDistanceProperty, h + 50))).play();
+            double h = computeRowsHeight(getWidth());
+            AnimationGovernor.governTimeline(this, new Timeline(new KeyFrame(Duration.minutes(0.8), new KeyValue(creditsBottomDistanceProperty, h + 50)))).play();
         }, 10);
     }
 
-    private double lastW, lastH1, lastH2, lastH3;
+    private double computeRowsHeight(double width) {
+        computeRowTops(width);
+        return rowTops[credits.length] + ltsImageView.prefHeight(-1);
+    }
+
+    private void computeRowTops(double width) {
+        if (width != rowsWidth) {
+            rowsWidth = width;
+            // The texts heights are measured through the cache (so only once per text and width)
+            measureText.setWrappingWidth(width);
+            double y = 0;
+            for (int i = 0; i < credits.length; i++) {
+                rowTops[i] = y;
+                measureText.setText(credits[i]);
+                y += TextMeasurementCache.getPrefHeight(measureText, width) + ROWS_SPACING;
+            }
+            rowTops[credits.length] = y;
+        }
+    }
 
     @Override
     protected void layoutChildren(double width, double height) {
-        double w = width, h = height, h1 = lastH1, h2 = lastH2, h3 = lastH3;
-        if (w != lastW) {
-            h1 = javaFxLogo.prefHeight(w);
-            h2 = creditsBox.prefHeight(w);
-            h3 = ltsImageView.prefHeight(w);
-            if (h1 != lastH1 || h2 != lastH2 || h3 != lastH3) {
-                lastH1 = h1;
-                lastH2 = h2;
-                lastH3 = h3;
-            } else
-                lastW = w;
-            layoutInArea(javaFxLogo, 0, 0, w, h1);
-        }
+        double w = width;
+        logoHeight = javaFxLogo.prefHeight(w);
+        layoutInArea(javaFxLogo, 0, 0, w, logoHeight);
+        computeRowTops(w);
+        ltsHeight = ltsImageView.prefHeight(-1);
+        for (int i = 0; i < credits.length; i++)
+            if (rowTexts[i] != null) {
+                rowTexts[i].setWrappingWidth(w);
+                rowTexts[i].setLayoutY(rowTops[i]);
+            }
+        for (Text text : recycledTexts)
+            text.setWrappingWidth(w);
+        ltsImageView.setLayoutX((w - ltsImageView.prefWidth(-1)) / 2);
+        ltsImageView.setLayoutY(rowTops[credits.length]);
+        rowsClip.setWidth(w);
+        updateScroll();
+    }
+
+    private void updateScroll() {
+        double h = getHeight(), h1 = logoHeight, h3 = ltsHeight, h2 = rowTops[credits.length] + h3;
+        // The rows stop scrolling when the LTS image is just under the JavaFX logo
         double y = Math.max(h1 - h2 + h3 + 9, h - creditsBottomDistanceProperty.get());
-        layoutInArea(creditsBox, 0, y, w, h2);
-        creditsBox.setClip(new Rectangle(0, h1 - y, w , h - h1));
+        rowsPane.setTranslateY(y);
+        // Visible window in the rows pane coordinates: between the bottom of the logo and the bottom of the pane
+        double windowTop = h1 - y, windowBottom = h - y;
+        rowsClip.setY(windowTop);
+        rowsClip.setHeight(Math.max(0, h - h1));
+        for (int i = 0; i < credits.length; i++) {
+            boolean visible = rowTops[i + 1] - ROWS_SPACING > windowTop && rowTops[i] < windowBottom;
+            Text text = rowTexts[i];
+            if (visible && text == null) {
+                text = recycledTexts.isEmpty() ? createText(null) : recycledTexts.remove(recycledTexts.size() - 1);
+                if (text.getParent() == null) {
+                    text.setWrappingWidth(rowsWidth);
+                    rowsPane.getChildren().add(text);
+                }
+                text.setText(credits[i]);
+                text.setLayoutY(rowTops[i]);
+                text.setVisible(true);
+                rowTexts[i] = text;
+            } else if (!visible && text != null) {
+                text.setVisible(false);
+                recycledTexts.add(text);
+                rowTexts[i] = null;
+            }
+        }
+        ltsImageView.setVisible(rowTops[credits.length] < windowBottom && h2 > windowTop);
     }
 }
@@ -70,7 +70,7 @@ public final class CrossPlatformCard extends Card {
                 layoutInArea(flipPanelScalePane, 0, h / 2 + 0.3 * sh - fh / 2, w, fh);
             }
         };
-        titleText.opacityProperty().addListener(e -> pane.forceLayoutChildren());
+        pane.addLayoutDependencies(titleText.opacityProperty());
         return pane;
     }
 
@@ -84,9 +84,7 @@ public final class CrossPlatformCard extends Card {
     }
 
     private static Pane createSVGCircle(String svgPath, Paint fill, double dx, double dy) {
-        SVGPath path = new SVGPath();
-        path.setContent(svgPath);
-        path.setFill(fill);
+        SVGPath path = createLogoSVGPath(svgPath, fill);
         path.setTranslateX(dx);
         path.setTranslateY(dy);
         Pane pane = new StackPane(path);
@@ -95,7 +93,7 @@ public final class CrossPlatformCard extends Card {
         pane.setMaxSize(h, h);
         CornerRadii radii = new CornerRadii(h / 2);
         WebSiteShared.setRegionBackground(pane, CIRCLE_GRADIENT, radii);
-        pane.setBorder(new Border(new BorderStroke(Color.GOLD, BorderStrokeStyle.SOLID, radii, BorderStroke.THICK)));
+        pane.setBorder(BackgroundCache.getBorder(Color.GOLD, radii, BorderStroke.THICK));
         return pane;
     }
 
@@ -36,7 +36,7 @@ public class DocumentationCard extends Card {
 
     @Override
     protected String computeLongestCaption() {
-        return LONGEST_CAPTION; // We align with the same longest caption as the WebFX cards pane, so that the title text has the same vertical position in the StartPane
+        return getCardsMetrics().getLongestCaption(); // We align with the longest caption of the other cards of this pane, so that the title text has the same vertical position
     }
 
     @Override
@@ -1,95 +1,128 @@
 package dev.webfx.website.application.cards;
 
+import dev.webfx.website.application.images.ImageLoader;
+import dev.webfx.website.application.images.SvgLogoPaths;
 import dev.webfx.website.application.shared.LayoutPane;
-import dev.webfx.extras.panes.ScalePane;
+import dev.webfx.website.application.shared.SvgPathGeometry;
 import dev.webfx.website.application.shared.WebSiteShared;
-import javafx.scene.Node;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.layout.Region;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.CycleMethod;
-import javafx.scene.paint.LinearGradient;
-import javafx.scene.paint.Stop;
+import javafx.scene.image.Image;
+import javafx.scene.paint.*;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
 import java.util.Arrays;
-import java.util.function.Supplier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
+ * The frameworks timeline chart. Everything (years grid, live bars, logos and names) is drawn on a single canvas, which
+ * is repainted only when the size changes (or when a logo image has finished loading).
+ *
  * @author Bruno Salmon
  */
 final class FrameworksPane extends LayoutPane {
 
     private final static double year1 = 2021.1;
     private final static Framework[] webFrameworks = {             /*1996.8*/
-            new Framework("Flash",       WebSiteShared::createFlashLogo,      2006.0, 2010.1, 2020.9),
-            new Framework("JQuery",      WebSiteShared::createJQueryLogo,     2006.7, 2013.8),
-            new Framework("Silverlight", WebSiteShared::createSilverlightLogo,2007.3, 2011.5, 2017),
-            new Framework("JavaFX",      WebSiteShared::createFxLogo,         2008.7, year1),
-            new Framework("AngularJS",   WebSiteShared::createAngularLogo,    2009.0, 2016.0),
-            new Framework("Backbone",    WebSiteShared::createBackboneLogo,   2010.7, 2013.0),
-            new Framework("Ember",       WebSiteShared::createEmberLogo,      2010.9, 2013.6),
-            new Framework("Meteor",      WebSiteShared::createMeteorLogo,     2012.1, 2015.6),
-            new Framework("React",       WebSiteShared::createReactLogo,      2013.5, year1),
-            new Framework("Vue",         WebSiteShared::createVueLogo,        2014.1, 2020.5),
-            new Framework("Angular",     WebSiteShared::createAngularLogo,    2016.7, 2018.5),
-            new Framework("Flutter",     WebSiteShared::createFlutterLogo,    2018.9, year1),
+            new Framework("Flash",       Logo.FLASH,                    2006.0, 2010.1, 2020.9),
+            new Framework("JQuery",      Logo.image("JQuery.png"),      2006.7, 2013.8),
+            new Framework("Silverlight", Logo.image("Silverlight.png"), 2007.3, 2011.5, 2017),
+            new Framework("JavaFX",      Logo.FX,                       2008.7, year1),
+            new Framework("AngularJS",   Logo.image("Angular.png"),     2009.0, 2016.0),
+            new Framework("Backbone",    Logo.image("Backbone.png"),    2010.7, 2013.0),
+            new Framework("Ember",       Logo.image("Ember.png"),       2010.9, 2013.6),
+            new Framework("Meteor",      Logo.image("Meteor.png"),      2012.1, 2015.6),
+            new Framework("React",       Logo.image("React.png"),       2013.5, year1),
+            new Framework("Vue",         Logo.image("Vue.png"),         2014.1, 2020.5),
+            new Framework("Angular",     Logo.image("Angular.png"),     2016.7, 2018.5),
+            new Framework("Flutter",     Logo.image("Flutter.png"),     2018.9, year1),
     };
     private final static Framework[] javaFrameworks = {
             new Framework("AWT",  null,       1995, 1998, 2018.0),
             new Framework("Swing",null,       1997, 2013, 2030),
             new Framework("SWT",  null,       2003.3, 2009, 2030),
             new Framework("Pivot",null,       2008.5, 2017, 2030),
-            new Framework("JavaFX", WebSiteShared::createFxLogo, 2008.7, year1),
+            new Framework("JavaFX", Logo.FX, 2008.7, year1),
     };
+    private final static Font yearFont = Font.font(8);
+    private final static Font nameFont = Font.font("Arial", 20);
 
     private final Framework[] frameworks;
-    private final Canvas yearsCanvas;
+    private final Canvas canvas = new Canvas();
     private final double year0;
+    private double paintedWidth, paintedHeight;
 
     FrameworksPane(boolean web) {
         super();
         frameworks = web ? webFrameworks : javaFrameworks;
         year0 = Arrays.stream(frameworks).mapToDouble(f -> f.startYear).min().getAsDouble();
-        getChildren().add(yearsCanvas = new Canvas());
+        getChildren().add(canvas);
+        // Repainting the chart when a logo image has finished loading (once per logo, as a logo can be shared by 2 frameworks)
+        Set<Logo> logos = new HashSet<>();
         for (Framework framework : frameworks)
-            getChildren().addAll(framework.liveBar, framework.logo, framework.nameText);
+            if (framework.logo != null && logos.add(framework.logo))
+                framework.logo.onLoaded(this::repaint);
     }
 
     @Override
     protected void layoutChildren(double width, double height) {
-        double w = width, h = height;
-        double rowHeight = h / (frameworks.length + 0.5); // Adding half a row to make space for the years legend
-        double vgap = 0.03 * h;
-        double fy = 0, fh = rowHeight - vgap;
-        for (Framework fw : frameworks) {
-            double thisBarX = getYearX(fw.startYear, w), thisBarW = w - thisBarX;
-            leftInArea(fw.liveBar, thisBarX, fy, thisBarW, fh);
-            leftInArea(fw.logo, thisBarX + 10, fy, fh, fh);
-            leftInArea(fw.nameText, thisBarX + 20 + fh, fy, fh, fh);
-            fy += rowHeight;
-        }
-        yearsCanvas.setWidth(w);
-        yearsCanvas.setHeight(h);
-        GraphicsContext ctx = yearsCanvas.getGraphicsContext2D();
+        if (width != paintedWidth || height != paintedHeight)
+            paint(width, height);
+    }
+
+    private void repaint() {
+        paint(getWidth(), getHeight());
+    }
+
+    private void paint(double w, double h) {
+        paintedWidth = w;
+        paintedHeight = h;
+        canvas.setWidth(w);
+        canvas.setHeight(h);
+        GraphicsContext ctx = canvas.getGraphicsContext2D();
         ctx.clearRect(0, 0, w, h);
+        if (w == 0 || h == 0)
+            return;
+        // Years grid
         ctx.setFill(Color.WHITE);
         ctx.setStroke(Color.GRAY);
         ctx.setLineWidth(0.5);
         ctx.setTextAlign(TextAlignment.CENTER);
-        ctx.setFont(Font.font(8));
+        ctx.setTextBaseline(VPos.BASELINE);
+        ctx.setFont(yearFont);
         ctx.beginPath();
         for (double year = year0; year <= year1; year++) {
             double x = getYearX(year, w);
             ctx.moveTo(x, 0);
             ctx.lineTo(x, h);
-            ctx.stroke();
             ctx.fillText("" + (int) year, getYearX(year + 0.5, w), h);
         }
-        ctx.closePath();
+        ctx.stroke(); // Stroking all the year lines at once
+        // Frameworks rows
+        double rowHeight = h / (frameworks.length + 0.5); // Adding half a row to make space for the years legend
+        double vgap = 0.03 * h;
+        double fy = 0, fh = rowHeight - vgap;
+        ctx.setTextAlign(TextAlignment.LEFT);
+        ctx.setTextBaseline(VPos.CENTER);
+        ctx.setFont(nameFont);
+        for (Framework fw : frameworks) {
+            double thisBarX = getYearX(fw.startYear, w), thisBarW = w - thisBarX;
+            ctx.setFill(fw.liveBarFill);
+            ctx.fillRect(thisBarX, fy, thisBarW, fh);
+            if (fw.logo != null)
+                fw.logo.draw(ctx, thisBarX + 10, fy, fh);
+            ctx.setFill(Color.WHITE);
+            ctx.fillText(fw.name, thisBarX + 20 + fh, fy + fh / 2);
+            fy += rowHeight;
+        }
     }
 
     private double getYearX(double year, double width) {
@@ -97,30 +130,121 @@ final class FrameworksPane extends LayoutPane {
     }
 
     static class Framework {
-        final Text nameText;
-        final Node logo;
-        final Region liveBar = new Region();
+        final String name;
+        final Logo logo;
+        final Paint liveBarFill;
         final double startYear;
 
-        Framework(String name, Supplier<Node> logoFactory, double startYear, double apogeeYear) {
-            this(name, logoFactory, startYear, apogeeYear, apogeeYear + 10);
+        Framework(String name, Logo logo, double startYear, double apogeeYear) {
+            this(name, logo, startYear, apogeeYear, apogeeYear + 10);
         }
 
-        Framework(String name, Supplier<Node> logoFactory, double startYear, double apogeeYear, double deathYear) {
-            nameText = WebSiteShared.setUpText(new Text(name), 20, false, true, false, false);
-            logo = logoFactory == null ? new Text("") : new ScalePane(logoFactory.get());
+        Framework(String name, Logo logo, double startYear, double apogeeYear, double deathYear) {
+            this.name = name;
+            this.logo = logo;
             this.startYear = startYear;
             double clumpDeathYear = Math.min(deathYear, year1);
             double d = year1 - startYear;
             Color increasingColor = Color.color(0.1, 0.5, 0.1), decayingColor = Color.ORANGE, dyingColor = Color.color(1, 0.2, 0.2);
-            WebSiteShared.setRegionBackground(liveBar, new LinearGradient(0, 0, 1, 0, true, CycleMethod.NO_CYCLE,
+            liveBarFill = new LinearGradient(0, 0, 1, 0, true, CycleMethod.NO_CYCLE,
                     new Stop(0,                                increasingColor),
                     new Stop((apogeeYear     - startYear) / d, increasingColor),
                     new Stop((apogeeYear     - startYear) / d, decayingColor),
                     new Stop((apogeeYear     - startYear) / d * 1.3, decayingColor),
                     new Stop((apogeeYear     - startYear) / d * 1.3, dyingColor),
                     new Stop(Math.max((clumpDeathYear - startYear) / d, (apogeeYear     - startYear) / d * 1.3), Color.rgb(255, 0, 0, deathYear < year1 ? 0 : 1 - (year1 - apogeeYear) / (deathYear - apogeeYear)))
-                    ));
+                    );
+        }
+    }
+
+    // Logo drawn in a square area (keeping its aspect ratio), either from an image or from an SVG path
+    static abstract class Logo {
+
+        final static Logo FX = new SvgLogo(SvgLogoPaths.getFxWordPath(), WebSiteShared.fxColor, null);
+        final static Logo FLASH = new SvgLogo(SvgLogoPaths.getFlashLetterPath(), Color.WHITE, LinearGradient.valueOf("to bottom, #D21921, #4C060A"));
+
+        private final static Map<String, Logo> IMAGE_LOGOS = new HashMap<>(); // One logo (and image) per file
+
+        static Logo image(String file) {
+            Logo logo = IMAGE_LOGOS.get(file);
+            if (logo == null)
+                IMAGE_LOGOS.put(file, logo = new ImageLogo(file));
+            return logo;
+        }
+
+        // Calls the runnable once the logo is loaded (not called if already loaded)
+        void onLoaded(Runnable runnable) {
+        }
+
+        abstract void draw(GraphicsContext ctx, double x, double y, double size);
+    }
+
+    private static final class ImageLogo extends Logo {
+        private final String file;
+        private Image image;
+
+        ImageLogo(String file) {
+            this.file = file;
+        }
+
+        private Image getImage() { // The image is loaded on first use (not at class loading time)
+            if (image == null)
+                image = ImageLoader.loadImageInBackground(file);
+            return image;
+        }
+
+        @Override
+        void onLoaded(Runnable runnable) {
+            Image image = getImage();
+            if (image.getProgress() < 1) // The listener is removed once the image is loaded (so it doesn't retain the pane)
+                image.progressProperty().addListener(new ChangeListener<Number>() {
+                    @Override
+                    public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+                        if (newValue.doubleValue() >= 1) {
+                            observable.removeListener(this);
+                            runnable.run();
+                        }
+                    }
+                });
+        }
+
+        @Override
+        void draw(GraphicsContext ctx, double x, double y, double size) {
+            Image image = getImage();
+            double iw = image.getWidth(), ih = image.getHeight();
+            if (iw > 0 && ih > 0) {
+                double scale = Math.min(size / iw, size / ih), dw = scale * iw, dh = scale * ih;
+                ctx.drawImage(image, x + (size - dw) / 2, y + (size - dh) / 2, dw, dh);
+            }
+        }
+    }
+
+    private static final class SvgLogo extends Logo {
+        private final String content;
+        private final Paint fill, background;
+
+        SvgLogo(String content, Paint fill, Paint background) {
+            this.content = content;
+            this.fill = fill;
+            this.background = background;
+        }
+
+        @Override
+        void draw(GraphicsContext ctx, double x, double y, double size) {
+            if (background != null) {
+                ctx.setFill(background);
+                ctx.fillRect(x, y, size, size);
+            }
+            Bounds bounds = SvgPathGeometry.getBounds(content); // Memoised (not computed again on each repaint)
+            double scale = Math.min(size / bounds.getWidth(), size / bounds.getHeight());
+            ctx.save();
+            ctx.translate(x + (size - scale * bounds.getWidth()) / 2 - scale * bounds.getMinX(), y + (size - scale * bounds.getHeight()) / 2 - scale * bounds.getMinY());
+            ctx.scale(scale, scale);
+            ctx.setFill(fill);
+            ctx.beginPath();
+            ctx.appendSVGPath(content);
+            ctx.fill();
+            ctx.restore();
         }
     }
 }
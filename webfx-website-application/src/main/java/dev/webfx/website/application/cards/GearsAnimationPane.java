@@ -2,16 +2,15 @@ package dev.webfx.website.application.cards;
 
 import dev.webfx.extras.webtext.HtmlText;
 import dev.webfx.website.application.images.SvgLogoPaths;
+import dev.webfx.website.application.shared.GovernedAnimationTimer;
 import dev.webfx.website.application.shared.LayoutPane;
+import dev.webfx.website.application.shared.ProgressFillPane;
+import dev.webfx.website.application.shared.TextMeasurementCache;
 import dev.webfx.extras.panes.ScalePane;
 import dev.webfx.website.application.shared.WebSiteShared;
-import javafx.animation.AnimationTimer;
 import javafx.animation.KeyValue;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
-import javafx.scene.paint.*;
+import javafx.scene.paint.Color;
 
 import static dev.webfx.website.application.shared.WebSiteShared.createJavaFxLogo;
 import static dev.webfx.website.application.shared.WebSiteShared.createLogoSVGPath;
@@ -29,20 +28,8 @@ final class GearsAnimationPane extends LayoutPane {
     private final CirclePane circle1 = new CirclePane("Syntax parsing",   -90, Color.TRANSPARENT, null, null);
     private final CirclePane circle2 = new CirclePane("DOM queries",-90, Color.TRANSPARENT, null, null);
     private final CirclePane circle3 = new CirclePane("Model binding", -90, Color.TRANSPARENT, null, null);
-    private final Region redCross1 = new Region(), redCross2 = new Region();
-    private final DoubleProperty redCross1FillPercent = new SimpleDoubleProperty(1) {
-        @Override
-        protected void invalidated() {
-            fillRegion(redCross1, get());
-        }
-    };
-    private final DoubleProperty redCross2FillPercent = new SimpleDoubleProperty(1) {
-        @Override
-        protected void invalidated() {
-            fillRegion(redCross2, get());
-        }
-    };
-    private final AnimationTimer animationTimer = new AnimationTimer() {
+    private final ProgressFillPane redCross1 = createRedCross(), redCross2 = createRedCross();
+    private final GovernedAnimationTimer animationTimer = new GovernedAnimationTimer(this) { // suspended while off-screen
         @Override
         public void handle(long now) {
             double angle = 360. * now / 1e9 * 0.25 % 360;
@@ -55,10 +42,8 @@ final class GearsAnimationPane extends LayoutPane {
         }
     };
 
-    private static void fillRegion(Region region, double percent) {
-        Color color1 = Color.rgb(255, 0, 0, 0.75), color2 = Color.TRANSPARENT;
-        Paint fill = percent <= 0 ? color2 : percent >= 1 ? color1 : new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE, new Stop(0, color1), new Stop(percent, color1), new Stop(percent, color2), new Stop(1, color2));
-        WebSiteShared.setRegionBackground(region, fill);
+    private static ProgressFillPane createRedCross() {
+        return new ProgressFillPane(Color.rgb(255, 0, 0, 0.75), false);
     }
 
     private static ScalePane createGear(Color color) {
@@ -76,7 +61,7 @@ final class GearsAnimationPane extends LayoutPane {
         double javaFxHeight = javaFxLogo.prefHeight(width);
         centerInArea(javaFxLogo, 0, 0, width, javaFxHeight);
         WebSiteShared.updateTextFontSize(noteText, Math.min(0.035 * width, 16), false);
-        double noteHeight = noteText.prefHeight(width), gap = 10;
+        double noteHeight = TextMeasurementCache.getPrefHeight(noteText, width), gap = 10;
         centerInArea(noteText, 0, javaFxHeight + gap, width, noteHeight);
         double y0 = javaFxHeight + noteHeight + gap;
         height -= y0;
@@ -113,12 +98,12 @@ final class GearsAnimationPane extends LayoutPane {
 
     void play(CardTransition cardTransition) {
         animationTimer.start();
-        redCross1FillPercent.set(0);
-        redCross2FillPercent.set(0);
+        redCross1.setFillPercent(0);
+        redCross2.setFillPercent(0);
         cardTransition.addOnFinished(() -> {
-            cardTransition.addKeyValue(new KeyValue(redCross1FillPercent, 1));
+            cardTransition.addKeyValue(new KeyValue(redCross1.fillPercentProperty(), 1));
             cardTransition.addOnFinished(() -> {
-                cardTransition.addKeyValue(new KeyValue(redCross2FillPercent, 1));
+                cardTransition.addKeyValue(new KeyValue(redCross2.fillPercentProperty(), 1));
                 cardTransition.run(true);
             });
             cardTransition.run(true);
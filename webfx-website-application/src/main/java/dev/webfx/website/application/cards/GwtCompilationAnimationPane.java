@@ -1,23 +1,22 @@
 package dev.webfx.website.application.cards;
 
 import dev.webfx.website.application.shared.LayoutPane;
+import dev.webfx.website.application.shared.ProgressFillPane;
 import dev.webfx.extras.panes.ScalePane;
 import dev.webfx.website.application.shared.WebSiteShared;
+import javafx.animation.Interpolator;
 import javafx.animation.KeyValue;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.layout.Pane;
-import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.*;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.SVGPath;
 
-import java.util.stream.Stream;
-
 import static dev.webfx.website.application.shared.WebSiteShared.jsYellowColor;
 
 /**
@@ -25,9 +24,11 @@ import static dev.webfx.website.application.shared.WebSiteShared.jsYellowColor;
  */
 final class GwtCompilationAnimationPane extends LayoutPane {
 
-    private final Region[] javaFxClasses = Stream.generate(() -> WebSiteShared.setRegionBackground(new Region(), WebSiteShared.raspberryPiColor)).limit(16 * 8).toArray(Region[]::new);
+    private final static long SCAN_MILLIS_PER_CLASS = 60;
+    private final static Color DEAD_CLASS_SCAN_COLOR = Color.gray(0.4, 0.4);
+
+    private final ClassGridCanvas javaFxClasses = new ClassGridCanvas(16, 8, WebSiteShared.raspberryPiColor);
     private final int[] nonDeadIndexes = {21, 25, 39, 42, 52, 60, 72, 82, 85, 90, 93, 104, 116, 124};
-    private boolean showGrid;
     private final LayoutPane javaFxClassesPane = new LayoutPane(javaFxClasses) {
         private final Circle circleClip = new Circle(); { setClip(circleClip); }
         @Override
@@ -37,11 +38,7 @@ final class GwtCompilationAnimationPane extends LayoutPane {
             circleClip.setCenterX(xc);
             circleClip.setCenterY(yc);
             circleClip.setRadius(radius);
-            double jfxSize = radius / 8;
-            for (int i = 0; i < 16 * 8; i++) {
-                int row = i / 16, col = i % 16;
-                layoutInArea(javaFxClasses[i], xc - radius + col * jfxSize, yc - radius + row * jfxSize, jfxSize - (showGrid ? 2 : 0), jfxSize - (showGrid ? 2 : 0));
-            }
+            layoutInArea(javaFxClasses, xc - radius, yc - radius, 2 * radius, radius); // 16 x 8 square cells
         }
     };
     private final CirclePane javaFxCirclePane = new CirclePane("JavaFX",90, WebSiteShared.raspberryPiColor, null, null);
@@ -50,63 +47,46 @@ final class GwtCompilationAnimationPane extends LayoutPane {
     private final SVGPath gwtLogo = WebSiteShared.createGwtLogo();
     private final ScalePane gwtLogoPane = new ScalePane(gwtLogo);
     private final Pane jsLogo = WebSiteShared.createJSLogo();
+    private final ProgressFillPane jsLogoFill = new ProgressFillPane(jsYellowColor, true);
     private final ScalePane jsLogoPane = new ScalePane(jsLogo);
-    private final Region jsFlow = new Region();
+    private final ProgressFillPane jsFlow = new ProgressFillPane(jsYellowColor, false);
     private final DoubleProperty jsFlowFillPercent = new SimpleDoubleProperty(1) {
         @Override
         protected void invalidated() {
             boolean flowStart = get() >= 0; // negative value for flow end
-            fillRegion(jsFlow, flowStart ? jsYellowColor : Color.TRANSPARENT, flowStart ? Color.TRANSPARENT : jsYellowColor, Math.abs(get()), false);
-        }
-    };
-    private final DoubleProperty jsLogoFillPercent = new SimpleDoubleProperty(1) {
-        @Override
-        protected void invalidated() {
-            fillRegion(jsLogo, jsYellowColor, Color.TRANSPARENT, get(), true);
+            // Flow start = filling from the top, flow end = emptying from the top (i.e. remaining fill at the bottom)
+            jsFlow.setFromBottom(!flowStart);
+            jsFlow.setFillPercent(flowStart ? get() : 1 + get());
         }
     };
-    private final Region redCross1 = new Region(), redCross2 = new Region();
-    private final DoubleProperty redCross1FillPercent = new SimpleDoubleProperty(1) {
-        @Override
-        protected void invalidated() {
-            fillRegion(redCross1, Color.RED, Color.TRANSPARENT, get(), false);
-        }
-    };
-    private final DoubleProperty redCross2FillPercent = new SimpleDoubleProperty(1) {
-        @Override
-        protected void invalidated() {
-            fillRegion(redCross2, Color.RED, Color.TRANSPARENT, get(), false);
-        }
-    };
-    private final ObjectProperty<Paint> nonDeadCodeFillProperty = new SimpleObjectProperty<Paint>(WebSiteShared.raspberryPiColor) {
+    private final ProgressFillPane redCross1 = new ProgressFillPane(Color.RED, false), redCross2 = new ProgressFillPane(Color.RED, false);
+    private final ObjectProperty<Color> nonDeadCodeFillProperty = new SimpleObjectProperty<Color>(WebSiteShared.raspberryPiColor) {
         @Override
         protected void invalidated() {
             for (int i : nonDeadIndexes)
-                WebSiteShared.setRegionBackground(javaFxClasses[i], get());
+                javaFxClasses.setCellColor(i, get());
         }
     };
-    private final ObjectProperty<Paint> deadCodeFillProperty = new SimpleObjectProperty<Paint>(WebSiteShared.raspberryPiColor) {
+    private final ObjectProperty<Color> deadCodeFillProperty = new SimpleObjectProperty<Color>(WebSiteShared.raspberryPiColor) {
         @Override
         protected void invalidated() {
-            for (int i = 0, j = 0; i < javaFxClasses.length; i++)
+            for (int i = 0, j = 0; i < javaFxClasses.getCellCount(); i++)
                 if (j < nonDeadIndexes.length && i == nonDeadIndexes[j])
                     j++;
                 else
-                    WebSiteShared.setRegionBackground(javaFxClasses[i], get());
+                    javaFxClasses.setCellColor(i, get());
         }
     };
     private final Rectangle mainClip = new Rectangle();
     private final Rectangle appClip = new Rectangle();
 
     GwtCompilationAnimationPane() {
+        // The JS logo background is replaced by a progress fill behind the JS path
+        WebSiteShared.setRegionBackground(jsLogo, null);
+        jsLogo.getChildren().add(0, jsLogoFill);
         initAnim(0, null);
     }
 
-    static void fillRegion(Region region, Color color1, Color color2, double percent, boolean up) {
-        Paint fill = percent <= 0 ? color2 : percent >= 1 ? color1 : new LinearGradient(0, up ? 1 : 0, 0, up ? 0 : 1, true, CycleMethod.NO_CYCLE, new Stop(0, color1), new Stop(percent, color1), new Stop(percent, color2), new Stop(1, color2));
-        WebSiteShared.setRegionBackground(region, fill);
-    }
-
     @Override
     protected void layoutChildren(double width, double height) {
         double xc = width / 2, yc = height / 2;
@@ -141,13 +121,6 @@ final class GwtCompilationAnimationPane extends LayoutPane {
         mainClip.setHeight(height);
     }
 
-    private void showGrid(boolean showGrid) {
-        if (this.showGrid != showGrid) {
-            this.showGrid = showGrid;
-            javaFxClassesPane.forceLayoutChildren();
-        }
-    }
-
     void playJavaFxRenderingLayerRemoval(CardTransition cardTransition) {
         initAnim(0, cardTransition);
     }
@@ -168,8 +141,8 @@ final class GwtCompilationAnimationPane extends LayoutPane {
         appClipPane.setClip(appClip);
 
         this.animationStep = animationStep;
-        redCross1FillPercent.set(0);
-        redCross2FillPercent.set(0);
+        redCross1.setFillPercent(0);
+        redCross2.setFillPercent(0);
         redCross1.setOpacity(1);
         redCross2.setOpacity(1);
         javaFxCirclePane.setOpacity(1);
@@ -179,13 +152,13 @@ final class GwtCompilationAnimationPane extends LayoutPane {
         if (animationStep < 20) {
             nonDeadCodeFillProperty.set(WebSiteShared.raspberryPiColor);
             deadCodeFillProperty.set(WebSiteShared.raspberryPiColor);
-            showGrid(false);
+            javaFxClasses.setShowGrid(false);
         }
         javaFxClassesPane.setScaleX(1);
         javaFxClassesPane.setScaleY(1);
         appCirclePane.setVisible(false);
         appClipPane.setVisible(false);
-        jsLogoFillPercent.set(0);
+        jsLogoFill.setFillPercent(0);
         jsFlowFillPercent.set(0);
         if (cardTransition != null)
             cardTransition.addOnFinished(() -> runNextAnimationStep(cardTransition));
@@ -193,6 +166,21 @@ final class GwtCompilationAnimationPane extends LayoutPane {
 
     private int animationStep; // 1 = , 2 = fill red cross 1, 3 = fill red cross 2, 4 = fade renderer layer, 4 = fade red crosses
     private int scanIndex, scanNonDeadIndex;
+    // Number of scanned classes, computed from the elapsed time by the timeline (so independent of the frame rate)
+    private final DoubleProperty scanProgress = new SimpleDoubleProperty() {
+        @Override
+        protected void invalidated() {
+            int scannedCount = Math.min((int) get(), javaFxClasses.getCellCount());
+            while (scanIndex < scannedCount) {
+                Color fill = DEAD_CLASS_SCAN_COLOR;
+                if (scanNonDeadIndex < nonDeadIndexes.length && scanIndex == nonDeadIndexes[scanNonDeadIndex]) {
+                    scanNonDeadIndex++;
+                    fill = Color.SANDYBROWN;
+                }
+                javaFxClasses.setCellColor(scanIndex++, fill);
+            }
+        }
+    };
 
     private void runNextAnimationStep(CardTransition cardTransition) {
         switch (++animationStep) {
@@ -200,10 +188,10 @@ final class GwtCompilationAnimationPane extends LayoutPane {
                 cardTransition.addKeyValue(new KeyValue(javaFxCirclePane.fillProperty(), WebSiteShared.raspberryPiColor.deriveColor(0, 1, 1, 0.5)));
                 break;
             case 2: // Filling red cross 1
-                cardTransition.addKeyValue(new KeyValue(redCross1FillPercent, 1));
+                cardTransition.addKeyValue(new KeyValue(redCross1.fillPercentProperty(), 1));
                 break;
             case 3: // Filling red cross 1
-                cardTransition.addKeyValue(new KeyValue(redCross2FillPercent, 1));
+                cardTransition.addKeyValue(new KeyValue(redCross2.fillPercentProperty(), 1));
                 break;
             case 4: // Fully fading JavaFX renderer layer
                 cardTransition.addKeyValue(new KeyValue(javaFxCirclePane.fillProperty(), WebSiteShared.raspberryPiColor.deriveColor(0, 1, 1, 0.01)));
@@ -215,20 +203,14 @@ final class GwtCompilationAnimationPane extends LayoutPane {
                 );
                 break;
             case 12: // Showing the JavaFX classes grid
-                showGrid(true);
-                cardTransition.setDurationMillis(60);
+                javaFxClasses.setShowGrid(true);
+                cardTransition.setDurationMillis(SCAN_MILLIS_PER_CLASS);
                 scanIndex = scanNonDeadIndex = 0;
+                scanProgress.set(0);
                 break;
-            case 13: // Coloring next JavaFX class (with dead or non-dead color)
-                if (scanIndex < javaFxClasses.length) {
-                    Paint fill = Color.gray(0.4, 0.4);
-                    if (scanNonDeadIndex < nonDeadIndexes.length && scanIndex == nonDeadIndexes[scanNonDeadIndex]) {
-                        scanNonDeadIndex++;
-                        fill = Color.SANDYBROWN;
-                    }
-                    WebSiteShared.setRegionBackground(javaFxClasses[scanIndex++], fill);
-                    animationStep--;
-                }
+            case 13: // Scanning the JavaFX classes (coloring them with dead or non-dead color) in a single animation
+                cardTransition.setDurationMillis(SCAN_MILLIS_PER_CLASS * javaFxClasses.getCellCount());
+                cardTransition.addKeyValue(new KeyValue(scanProgress, javaFxClasses.getCellCount(), Interpolator.LINEAR));
                 break;
             case 14: // Fading dead classes
                 nonDeadCodeFillProperty.setValue(Color.SANDYBROWN);
@@ -282,14 +264,14 @@ final class GwtCompilationAnimationPane extends LayoutPane {
                 cardTransition.setDurationMillis(5000);
                 cardTransition.addKeyValue(
                         new KeyValue(appCirclePane.translateYProperty(), 0.25 * getHeight() + 1.1 * radius),
-                        new KeyValue(jsLogoFillPercent, 0.9)
+                        new KeyValue(jsLogoFill.fillPercentProperty(), 0.9)
                 );
                 break;
             case 28: // JS flow stops
                 jsFlowFillPercent.set(0);
                 cardTransition.setDurationMillis(400);
                 cardTransition.addKeyValue(
-                        new KeyValue(jsLogoFillPercent, 1),
+                        new KeyValue(jsLogoFill.fillPercentProperty(), 1),
                         new KeyValue(jsFlowFillPercent, -1.01 * ((jsLogoPane.getLayoutY() - jsFlow.getLayoutY()) / jsFlow.getHeight()))
                 );
                 break;
@@ -0,0 +1,72 @@
+package dev.webfx.website.application.cards;
+
+import dev.webfx.platform.uischeduler.UiScheduler;
+
+/**
+ * Initializes the off-screen cards of a cards pane in idle time, so that a scroll doesn't have to pay for Card.init()
+ * (and the creation of the illustration node) in the same frame as the scroll animation.
+ *
+ * It starts a little while after the first layout (once the visible cards have been painted), and then initializes the
+ * remaining cards in small time-boxed slices (one per animation frame), nearest cards from the left card index first.
+ * The slices are postponed while the cards pane is scrolling.
+ *
+ * @author Bruno Salmon
+ */
+final class IdleCardsInitializer {
+
+    private final static long START_DELAY_MILLIS = 1000; // Leaving time for the first paint (and its animations)
+    private final static long SLICE_BUDGET_MILLIS = 8;   // Half a frame at 60 FPS
+    private final static int FRAMES_BETWEEN_SLICES = 2;
+
+    private final CardsPane cardsPane;
+    private boolean started, finished;
+
+    IdleCardsInitializer(CardsPane cardsPane) {
+        this.cardsPane = cardsPane;
+    }
+
+    void start() { // Called by the cards pane on its first layout
+        if (!started) {
+            started = true;
+            UiScheduler.scheduleDelay(START_DELAY_MILLIS, this::runSlice);
+        }
+    }
+
+    private void runSlice() {
+        if (finished)
+            return;
+        if (!cardsPane.isScrolling()) {
+            long sliceStart = System.currentTimeMillis();
+            boolean initializedCards = false;
+            do {
+                Card card = nextCardToInitialize();
+                if (card == null) {
+                    finished = true;
+                    break;
+                }
+                card.checkInitialized();
+                initializedCards = true;
+            } while (System.currentTimeMillis() - sliceStart < SLICE_BUDGET_MILLIS);
+            // Same as for a card initialized on scroll, the cards pane layout needs to be updated
+            if (initializedCards)
+                cardsPane.forceLayoutChildren();
+            if (finished)
+                return;
+        }
+        UiScheduler.scheduleInAnimationFrame(this::runSlice, FRAMES_BETWEEN_SLICES);
+    }
+
+    private Card nextCardToInitialize() {
+        Card[] cards = cardsPane.cards;
+        int leftCardIndex = cardsPane.getLeftCardIndex();
+        for (int distance = 0; distance < cards.length; distance++) {
+            // Right side first, as this is the natural scroll direction
+            int right = leftCardIndex + distance, left = leftCardIndex - distance;
+            if (right < cards.length && !cards[right].isInitialized())
+                return cards[right];
+            if (left >= 0 && !cards[left].isInitialized())
+                return cards[left];
+        }
+        return null;
+    }
+}
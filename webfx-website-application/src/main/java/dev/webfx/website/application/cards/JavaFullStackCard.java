@@ -104,12 +104,8 @@ public final class JavaFullStackCard extends Card {
                 }
             }
         };
-        expansionProperty = new SimpleDoubleProperty() {
-            @Override
-            protected void invalidated() {
-                pane.forceLayoutChildren();
-            }
-        };
+        expansionProperty = new SimpleDoubleProperty();
+        pane.addLayoutDependencies(expansionProperty);
         preloadImages(stepToolkitLogos);
         preloadImages(stepLanguageLogos);
         return pane;
@@ -61,7 +61,7 @@ public final class LongTermCard extends FlipCard {
                             layoutInArea(longevityAnimationPane, 0, 0, width, height - getTransitionalTitleSpace());
                         }
                     };
-                    titleText.opacityProperty().addListener(e -> longevityAnimationEnclosingPane.forceLayoutChildren());
+                    longevityAnimationEnclosingPane.addLayoutDependencies(titleText.opacityProperty());
                 }
                 longevityAnimationPane.startBackToOriginalAnimation(cardTransition);
                 changeFlipContent(longevityAnimationEnclosingPane);
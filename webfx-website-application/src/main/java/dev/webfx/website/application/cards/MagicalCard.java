@@ -1,12 +1,12 @@
 package dev.webfx.website.application.cards;
 
 import dev.webfx.website.application.images.SvgLogoPaths;
+import dev.webfx.website.application.shared.CanvasRasterCache;
 import dev.webfx.website.application.shared.LayoutPane;
 import dev.webfx.extras.panes.ScaleMode;
 import dev.webfx.extras.panes.ScalePane;
 import dev.webfx.website.application.shared.WebSiteShared;
 import javafx.scene.Node;
-import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
@@ -22,6 +22,7 @@ public final class MagicalCard extends FlipCard {
 
     private final static Color[] RAINBOW_COLORS = { Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.PURPLE };
 
+    private CanvasRasterCache rainbowRasterCache; // Kept between flips, so the rainbow is not repainted on each flip
     private GwtCompilationAnimationPane gwtCompilationAnimationPane;
     private GearsAnimationPane gearsAnimationPane;
 
@@ -50,35 +51,48 @@ public final class MagicalCard extends FlipCard {
         return new ScalePane(rotate(createLogoSVGPath(SvgLogoPaths.getStarPath(), color), angle));
     }
 
+    private static double rainbowStrokeWidth(double minwh) {
+        return 0.03 * minwh;
+    }
+
+    // Radius of the rainbow arc of that index (0 = outer arc, RAINBOW_COLORS.length = inner limit), negative if no space
+    private static double rainbowArcRadius(double minwh, int index) {
+        double strokeWidth = rainbowStrokeWidth(minwh);
+        return minwh / 2 - strokeWidth / 2 - index * (strokeWidth - 1);
+    }
+
+    private static void paintRainbow(GraphicsContext ctx, double width, double height) {
+        double minwh = Math.min(width, height), wd2 = width / 2, hd2 = height / 2;
+        ctx.setLineWidth(rainbowStrokeWidth(minwh));
+        for (int i = 0; i < RAINBOW_COLORS.length; i++) {
+            double radius = rainbowArcRadius(minwh, i);
+            if (radius <= 0) // Stopping the loop if radius is negative (may happen if card is very small)
+                break;
+            ctx.setStroke(RAINBOW_COLORS[i].deriveColor(0, 0.7, 1, 1));
+            ctx.strokeArc(wd2 - radius, hd2 - radius, 2 * radius, 2 * radius, 0, 180, ArcType.OPEN);
+        }
+    }
+
     @Override
     void prepareCardTransition(int step, CardTransition cardTransition) {
         super.prepareCardTransition(step, cardTransition);
         switch (step) {
             case 1:
-                Canvas rainbowCanvas = new Canvas();
+                if (rainbowRasterCache == null)
+                    rainbowRasterCache = new CanvasRasterCache(16, MagicalCard::paintRainbow);
+                CanvasRasterCache rainbowCache = rainbowRasterCache;
                 FXWreathPane webFxLogo = WebSiteShared.createWebFxLogo();
                 webFxLogo.setScaleMode(ScaleMode.BEST_FIT);
                 Region whiteWand = createWand(true), blackWand = createWand(false);
                 Node rainbowStar1 = createStar(Color.BLUE, 0), rainbowStar2 = createStar(Color.PURPLE, 0), star1 = createStar(Color.GREEN,-30), star2 = createStar(Color.RED, -20), star3 = createStar(Color.ORANGE, 20), star4 = createStar(Color.YELLOW, 30);
-                flipToNewContent(new LayoutPane(rainbowCanvas, rainbowStar1, rainbowStar2, webFxLogo, whiteWand, blackWand, star1, star2, star3, star4) {
+                flipToNewContent(new LayoutPane(rainbowCache.getCanvas(), rainbowStar1, rainbowStar2, webFxLogo, whiteWand, blackWand, star1, star2, star3, star4) {
                     @Override
                     protected void layoutChildren(double width, double height) {
-                        rainbowCanvas.setWidth(width);
-                        rainbowCanvas.setHeight(height);
-                        GraphicsContext ctx = rainbowCanvas.getGraphicsContext2D();
-                        ctx.clearRect(0, 0, width, height);
-                        double minwh = Math.min(width, height), wd2 = width / 2, hd2 = height / 2;
-                        double strokeWidth = 0.03 * minwh, bigRadius = minwh / 2 - strokeWidth / 2, radius = bigRadius;
-                        ctx.setLineWidth(strokeWidth);
-                        for (Color color : RAINBOW_COLORS) {
-                            if (radius <= 0) // Stopping the loop if radius is negative (may happen if card is very small)
-                                break;
-                            ctx.setStroke(color.deriveColor(0, 0.7, 1, 1));
-                            ctx.strokeArc(wd2 - radius, hd2 - radius, 2 * radius, 2 * radius, 0, 180, ArcType.OPEN);
-                            ctx.stroke();
-                            radius -= strokeWidth - 1;
-                        }
-                        radius = Math.max(0, radius);
+                        rainbowCache.resize(width, height); // Repainted only if the size bucket changed
+                        // The nodes around the rainbow are placed from its painted size (the canvas is centred on this pane)
+                        double minwh = Math.min(rainbowCache.getPaintedWidth(), rainbowCache.getPaintedHeight()), wd2 = width / 2, hd2 = height / 2;
+                        double strokeWidth = rainbowStrokeWidth(minwh), bigRadius = rainbowArcRadius(minwh, 0);
+                        double radius = Math.max(0, rainbowArcRadius(minwh, RAINBOW_COLORS.length)); // Inner radius of the rainbow
                         double wfw = wd2, wfh = hd2, wfx = wd2 - wfw / 2, wfy = hd2 - wfh / 2 ;
                         layoutInArea(webFxLogo, wfx, wfy, wfw, wfh);
                         double sw = Math.min(bigRadius * 0.75, (bigRadius - radius) * 1.7), sh = sw, sx = wd2 - Math.max(bigRadius + strokeWidth, (bigRadius + strokeWidth + radius) / 2 + sw / 2), sy = hd2 - sh / 2;
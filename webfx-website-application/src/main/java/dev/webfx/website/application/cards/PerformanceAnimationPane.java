@@ -1,8 +1,11 @@
 package dev.webfx.website.application.cards;
 
 import dev.webfx.extras.webtext.HtmlText;
+import dev.webfx.platform.uischeduler.AnimationFramePass;
+import dev.webfx.platform.uischeduler.UiScheduler;
 import dev.webfx.website.application.images.ImageLoader;
 import dev.webfx.website.application.shared.LayoutPane;
+import dev.webfx.website.application.shared.TextMeasurementCache;
 import dev.webfx.website.application.shared.WebSiteShared;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyValue;
@@ -33,9 +36,10 @@ final class PerformanceAnimationPane extends LayoutPane {
     private final DoubleProperty scoreProperty = new SimpleDoubleProperty() {
         @Override
         protected void invalidated() {
-            forceLayoutChildren();
+            requestScorePaint(); // No layout needed (only the canvas is repainted)
         }
     };
+    private boolean scorePaintRequested;
 
     public PerformanceAnimationPane() {
         getChildren().setAll(canvas, performanceText, noteText);
@@ -48,7 +52,7 @@ final class PerformanceAnimationPane extends LayoutPane {
     @Override
     protected void layoutChildren(double width, double height) {
         WebSiteShared.updateTextFontSize(noteText, Math.min(16, 0.03 * Math.min(width, height)), false);
-        double h = noteText.prefHeight(width);
+        double h = TextMeasurementCache.getPrefHeight(noteText, width);
         bottomInArea(noteText,0, height - h, width, h);
         height -= h;
         WebSiteShared.updateTextFontSize(performanceText, 0.15 * Math.min(width, height), false);
@@ -56,6 +60,22 @@ final class PerformanceAnimationPane extends LayoutPane {
         height -= performanceText.getLayoutBounds().getHeight();
         canvas.setWidth(width);
         canvas.setHeight(height);
+        double radius = 0.8 * Math.min(width, height) / 2;
+        scoreFont = WebSiteShared.updateFontSize(scoreFont, 0.8 * radius, false);
+        paintScore();
+    }
+
+    private void requestScorePaint() {
+        // Coalescing the score invalidations of the same animation frame into a single paint
+        if (!scorePaintRequested) {
+            scorePaintRequested = true;
+            UiScheduler.scheduleInAnimationFrame(this::paintScore, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+        }
+    }
+
+    private void paintScore() {
+        scorePaintRequested = false;
+        double width = canvas.getWidth(), height = canvas.getHeight();
         GraphicsContext ctx = canvas.getGraphicsContext2D();
         double radius = 0.8 * Math.min(width, height) / 2;
         ctx.clearRect(0, 0, width, height);
@@ -74,7 +94,7 @@ final class PerformanceAnimationPane extends LayoutPane {
             ctx.setTextAlign(TextAlignment.CENTER);
             ctx.setTextBaseline(VPos.CENTER);
             ctx.setFill(strokeCircleColor);
-            ctx.setFont(scoreFont = WebSiteShared.updateFontSize(scoreFont,0.8 * radius, false));
+            ctx.setFont(scoreFont);
             ctx.fillText("" + (int) (score * 100), width / 2, height / 2);
         }
     }
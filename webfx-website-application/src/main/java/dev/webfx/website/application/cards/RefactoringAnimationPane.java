@@ -1,5 +1,6 @@
 package dev.webfx.website.application.cards;
 
+import dev.webfx.website.application.shared.AnimationGovernor;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -170,7 +171,7 @@ final class RefactoringAnimationPane extends Pane {
     }
 
     private void playBrickAnimationSequence(AnimatedBrick[] animatedBricks, int sequence, Runnable onFinished) {
-        brickAnimationTimeline = new Timeline();
+        brickAnimationTimeline = AnimationGovernor.governTimeline(this, new Timeline());
         boolean initialSequence = sequence == 0;
         boolean reachedStartingRow = !initialSequence;
         while (true) {
@@ -125,9 +125,9 @@ public final class ResponsiveCard extends FlipCard {
             case 4:
                 HtmlText demoText;
                 VBox vBox = new VBox(
-                        WebSiteShared.setHtmlText(new HtmlText(), "See how the Enzo Clocks demo calculates the optimal positions of the clocks using a circle packing algorithm."),
+                        WebSiteShared.setHtmlText(new HtmlText(), "See how the Enzo Clocks demo calculates the optimal positions of the clocks using a circle packing algorithm.", getCaptionFont()),
                         new ScalePane(ImageLoader.loadImage("EnzoClocks.png")),
-                        demoText = WebSiteShared.setHtmlText(new HtmlText(), "Something impossible to achieve with CSS.<br/><small>(also illustrated by the <u>Led Packing demo</u>)</small>")
+                        demoText = WebSiteShared.setHtmlText(new HtmlText(), "Something impossible to achieve with CSS.<br/><small>(also illustrated by the <u>Led Packing demo</u>)</small>", getCaptionFont())
                 );
                 demoText.setMouseTransparent(false);
                 WebSiteShared.runOnMouseClick(demoText, e -> {
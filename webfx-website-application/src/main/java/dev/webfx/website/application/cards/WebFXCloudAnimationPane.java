@@ -1,16 +1,19 @@
 package dev.webfx.website.application.cards;
 
+import dev.webfx.website.application.shared.GithubGradientCache;
+import dev.webfx.website.application.shared.GovernedAnimationTimer;
 import dev.webfx.website.application.shared.LayoutPane;
+import dev.webfx.website.application.shared.SvgPathGeometry;
 import dev.webfx.extras.panes.ScaleMode;
 import dev.webfx.extras.panes.ScalePane;
 import dev.webfx.website.application.shared.WebSiteShared;
-import javafx.animation.AnimationTimer;
 import javafx.animation.KeyValue;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.shape.ArcType;
@@ -30,6 +33,9 @@ final class WebFXCloudAnimationPane extends LayoutPane {
 
     private final static long MILLIS_IN_NANO = 1_000_000;
     private final static double SPEED_FACTOR = 0.05;
+    private final static Color DASHED_LINE_COLOR = Color.grayRgb(255, 0.5);
+    private final static double DASHED_LINE_WIDTH = 5;
+    private final static double DASHED_LINE_HALF_EXTENT = DASHED_LINE_WIDTH / 2 + 2; // including antialiasing
 
     private final ScalePane cloudPane = new ScalePane(createCloud());
     private final FXWreathPane fxWreathPane = new FXWreathPane();
@@ -42,25 +48,25 @@ final class WebFXCloudAnimationPane extends LayoutPane {
     private final ScalePane gwtTextPane = new ScalePane(gwtText);
     private final SVGPath arrowUp = WebSiteShared.createArrowUp();
     private final ScalePane arrowUpScalePane = new ScalePane(arrowUp);
-    private final Canvas canvas = new Canvas();
-    private final AnimationTimer animationTimer = new AnimationTimer() {
+    // The canvas is split into 2 layers: a static one for the labels (repainted only on resize or playing state change)
+    // and a dynamic one for the bubbles and the dashed line (in which only the areas touched by them are repainted)
+    private final Canvas staticCanvas = new Canvas(), dynamicCanvas = new Canvas();
+    private final Pane canvasPane = new Pane(staticCanvas, dynamicCanvas);
+    private final GithubGradientCache gradientCache = new GithubGradientCache(256); // Shared by the wreath & arrow (same length)
+    private final GovernedAnimationTimer animationTimer = new GovernedAnimationTimer(this) { // suspended while off-screen
         @Override
         public void handle(long now) {
             long animationTimeMillis = animationTimeMillis(now);
-            paintCanvas(animationTimeMillis);
+            paintDynamicLayer(animationTimeMillis, false);
             updateGithubGradients(animationTimeMillis);
         }
     };
-    private final DoubleProperty expansionProperty = new SimpleDoubleProperty(1) {
-        @Override
-        protected void invalidated() {
-            forceLayoutChildren();
-        }
-    };
+    private final DoubleProperty expansionProperty = new SimpleDoubleProperty(1);
     private boolean playing;
 
     public WebFXCloudAnimationPane() {
-        getChildren().setAll(canvas, cloudPane, jsLogoPane, arrowUpScalePane, gwtLogoPane, gwtTextPane, fxWreathPane, medalPane);
+        getChildren().setAll(canvasPane, cloudPane, jsLogoPane, arrowUpScalePane, gwtLogoPane, gwtTextPane, fxWreathPane, medalPane);
+        addLayoutDependencies(expansionProperty);
         fxWreathPane.setScaleMode(ScaleMode.BEST_FIT);
         gwtLogo.setEffect(WebSiteShared.dropShadow);
         gwtText.setEffect(WebSiteShared.dropShadow);
@@ -68,14 +74,14 @@ final class WebFXCloudAnimationPane extends LayoutPane {
     }
 
     private void updateGithubGradients(long animationTimeMillis) {
-        double wreathHeight = wreath.getLayoutBounds().getHeight();
+        double wreathHeight = SvgPathGeometry.getBounds(wreath.getContent()).getHeight(); // Memoised (not computed again on each frame)
         double length = 2 * wreathHeight;
-        wreath.setFill(   createVerticalGithubGradiant(length,       0, animationTimeMillis));
-        arrowUp.setStroke(createVerticalGithubGradiant(length, wreathHeight, animationTimeMillis));
+        wreath.setFill(   getVerticalGithubGradiant(length,       0, animationTimeMillis));
+        arrowUp.setStroke(getVerticalGithubGradiant(length, wreathHeight, animationTimeMillis));
     }
 
-    private static LinearGradient createVerticalGithubGradiant(double length, double shift, long animationTimeMillis) {
-        return WebSiteShared.createVerticalGithubGradiant(length, shift + SPEED_FACTOR * animationTimeMillis);
+    private LinearGradient getVerticalGithubGradiant(double length, double shift, long animationTimeMillis) {
+        return gradientCache.getVerticalGradient(length, shift + SPEED_FACTOR * animationTimeMillis);
     }
 
     @Override
@@ -95,10 +101,16 @@ final class WebFXCloudAnimationPane extends LayoutPane {
         double sm = 0.35 * sfx;
         centerInArea(medalPane,width / 2 - 0.5 * sm, yfx + 0.3 * sm, sm, sm);
         if (playing || medalPane.getOpacity() > 0) {
-            canvas.setWidth(w);
-            canvas.setHeight(h);
+            layoutInArea(canvasPane, 0, 0, w, h);
+            if (staticCanvas.getWidth() != w || staticCanvas.getHeight() != h) {
+                staticCanvas.setWidth(w);
+                staticCanvas.setHeight(h);
+                dynamicCanvas.setWidth(w);
+                dynamicCanvas.setHeight(h);
+                paintStaticLayer();
+            }
             long animationTimeMillis = animationTimeMillis(System.nanoTime());
-            paintCanvas(animationTimeMillis);
+            paintDynamicLayer(animationTimeMillis, true);
             updateGithubGradients(animationTimeMillis);
         }
     }
@@ -111,7 +123,7 @@ final class WebFXCloudAnimationPane extends LayoutPane {
                 new KeyValue(jsLogoPane.opacityProperty(),  0),
                 new KeyValue(gwtLogoPane.opacityProperty(), 0),
                 new KeyValue(gwtTextPane.opacityProperty(), 0),
-                new KeyValue(canvas.opacityProperty(),      0)
+                new KeyValue(canvasPane.opacityProperty(),  0)
         );
     }
 
@@ -123,11 +135,11 @@ final class WebFXCloudAnimationPane extends LayoutPane {
             gwtTextPane.setOpacity(0);
             arrowUp.setOpacity(1);
             medalPane.setOpacity(1);
-            canvas.setVisible(true);
-            canvas.setOpacity(1);
+            canvasPane.setVisible(true);
+            canvasPane.setOpacity(1);
             forceLayoutChildren();
         } else cardTransition.addOnFinished(() -> {
-            canvas.setOpacity(0);
+            canvasPane.setOpacity(0);
             cardTransition.addKeyValue(
                     new KeyValue(jsLogoPane.opacityProperty(),  1),
                     new KeyValue(gwtLogoPane.opacityProperty(), 1),
@@ -165,7 +177,10 @@ final class WebFXCloudAnimationPane extends LayoutPane {
     }
 
     private void updateVisibilities() {
-        canvas.setVisible(playing);
+        canvasPane.setVisible(playing);
+        // The labels depend on the playing state, and the bubbles of the previous play must be erased
+        paintStaticLayer();
+        clearDynamicLayer();
         fxWreathPane.getWreathSVGPath().setVisible(playing);
         jsLogoPane.setVisible(!playing);
         gwtLogoPane.setVisible(!playing);
@@ -183,13 +198,12 @@ final class WebFXCloudAnimationPane extends LayoutPane {
     private final List<Bubble> bubbles = new ArrayList<>();
     private long startMillis;
 
-    private void paintCanvas(long animationTimeMillis) {
-        double w = getWidth(), h = getHeight(), hd2 = snapPositionY(h / 2);
+    private void paintStaticLayer() {
+        double w = staticCanvas.getWidth(), h = staticCanvas.getHeight(), hd2 = snapPositionY(h / 2);
         if (w == 0)
             return;
-        GraphicsContext ctx = canvas.getGraphicsContext2D();
+        GraphicsContext ctx = staticCanvas.getGraphicsContext2D();
         ctx.clearRect(0, 0, w, h);
-
         ctx.setFill(Color.WHITE);
         ctx.setFont(Font.font(0.03 * w));
         ctx.setTextAlign(TextAlignment.CENTER);
@@ -205,25 +219,44 @@ final class WebFXCloudAnimationPane extends LayoutPane {
             ctx.fillText("technologies", x, y2);
             ctx.fillText("Sustainable", x, y3);
             ctx.fillText("technology", x, y4);
+        }
+    }
+
+    private void clearDynamicLayer() {
+        dynamicCanvas.getGraphicsContext2D().clearRect(0, 0, dynamicCanvas.getWidth(), dynamicCanvas.getHeight());
+        for (Bubble bubble : bubbles)
+            bubble.paintedSize = 0;
+    }
 
+    private void paintDynamicLayer(long animationTimeMillis, boolean full) {
+        double w = dynamicCanvas.getWidth(), h = dynamicCanvas.getHeight(), hd2 = snapPositionY(h / 2);
+        if (w == 0)
+            return;
+        GraphicsContext ctx = dynamicCanvas.getGraphicsContext2D();
+        // Clearing only the areas painted on the previous frame (all clears are done before drawing, as bubbles may overlap)
+        if (full)
+            clearDynamicLayer();
+        else {
             for (Bubble bubble : bubbles)
-                bubble.draw(w, hd2, animationTimeMillis, ctx);
+                bubble.clear(ctx);
+            ctx.clearRect(0, hd2 - DASHED_LINE_HALF_EXTENT, w, 2 * DASHED_LINE_HALF_EXTENT);
         }
 
+        if (playing)
+            for (Bubble bubble : bubbles)
+                bubble.draw(w, hd2, animationTimeMillis, ctx);
+
         ctx.save();
-        ctx.setStroke(Color.grayRgb(255, 0.5));
-        ctx.setLineWidth(5);
+        ctx.setStroke(DASHED_LINE_COLOR);
+        ctx.setLineWidth(DASHED_LINE_WIDTH);
         ctx.setLineDashes(10, 20);
         double dashOffset = (SPEED_FACTOR * animationTimeMillis) % 30;
         ctx.setLineDashOffset(dashOffset);
-        ctx.setFont(Font.font(8));
         ctx.beginPath();
         ctx.moveTo(0, hd2);
         ctx.lineTo(w, hd2);
         ctx.stroke();
         ctx.restore();
-
-        ctx.closePath();
     }
 
     private Bubble lastSpawnBubble;
@@ -234,6 +267,8 @@ final class WebFXCloudAnimationPane extends LayoutPane {
         // constant fields for the time of a draw
         double w, h;
         long animationTimeMillis;
+        // area painted by the last draw (to be cleared on next frame)
+        double paintedX, paintedY, paintedSize;
 
         void spawn() {
             radiusHPercent = 0.08 + 0.08 * Math.random();
@@ -269,7 +304,8 @@ final class WebFXCloudAnimationPane extends LayoutPane {
             this.w = w;
             this.h = h;
             this.animationTimeMillis = animationTimeMillis;
-            ctx.setLineWidth(0.01 * h);
+            double lineWidth = 0.01 * h;
+            ctx.setLineWidth(lineWidth);
             double x = getX();
             double wPercent = x / w;
             boolean decaying = wPercent < decayingWPercent;
@@ -282,7 +318,20 @@ final class WebFXCloudAnimationPane extends LayoutPane {
             );
             double radius = radiusHPercent * h;
             double r = radius * (dying ? 1 + 2 * (dyingWPercent- wPercent) : 1);
-            ctx.strokeArc(x + radius - r, getY() + radius - r, 2 * r, 2 * r, 0, 360, ArcType.OPEN);
+            double arcX = x + radius - r, arcY = getY() + radius - r;
+            ctx.strokeArc(arcX, arcY, 2 * r, 2 * r, 0, 360, ArcType.OPEN);
+            // Including the stroke width and antialiasing in the painted area
+            double margin = lineWidth / 2 + 2;
+            paintedX = arcX - margin;
+            paintedY = arcY - margin;
+            paintedSize = 2 * r + 2 * margin;
+        }
+
+        void clear(GraphicsContext ctx) {
+            if (paintedSize > 0) {
+                ctx.clearRect(paintedX, paintedY, paintedSize, paintedSize);
+                paintedSize = 0;
+            }
         }
     }
 }
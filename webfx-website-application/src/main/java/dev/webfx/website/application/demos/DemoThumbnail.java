@@ -44,6 +44,8 @@ final class DemoThumbnail extends Pane {
     private final String demoLink, videoUrl;
     private final ScalePane demoImageScalePane;
     private ScalePane demoVideoScalePane;
+    private MediaPlayer mediaPlayer;
+    private MediaView mediaView;
     private final Text demoNameText, demoCategoryText;
     private final Region categoryFullBackgroundRegion = new Region(), categoryFadingBackgroundRegion = new Region();
     private final SVGPath githubLogo = createGithubLogo();
@@ -83,11 +85,19 @@ final class DemoThumbnail extends Pane {
         getChildren().setAll(demoImageScalePane, demoNameText, categoryFadingBackgroundRegion, categoryFullBackgroundRegion, demoCategoryText, githubLogoPane);
     }
 
-    void startVideo() {
-        if (videoUrl != null && demoVideoScalePane == null) {
-            MediaPlayer mediaPlayer = new MediaPlayer(new Media(videoUrl));
+    boolean hasVideo() {
+        return videoUrl != null;
+    }
+
+    boolean isVideoStarted() {
+        return mediaPlayer != null;
+    }
+
+    void startVideo() { // Called by the VideoPlayerPool
+        if (videoUrl != null && mediaPlayer == null) {
+            mediaPlayer = new MediaPlayer(new Media(videoUrl));
             mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
-            demoVideoScalePane = new ScalePane(demoImageScalePane.getScaleMode(), new MediaView(mediaPlayer));
+            demoVideoScalePane = new ScalePane(demoImageScalePane.getScaleMode(), mediaView = new MediaView(mediaPlayer));
             // The demo video is initially displayed on behind the image (which is hiding it)
             getChildren().add(0, demoVideoScalePane);
             // Removing the demo image when the video starts playing
@@ -97,6 +107,21 @@ final class DemoThumbnail extends Pane {
         }
     }
 
+    void stopVideo() { // Called by the VideoPlayerPool to release the player (the static image is displayed again)
+        if (mediaPlayer != null) {
+            mediaPlayer.setOnPlaying(null);
+            mediaPlayer.stop();
+            mediaPlayer.dispose(); // Releases the video element and its buffered data (not just paused)
+            mediaPlayer = null;
+            mediaView.setMediaPlayer(null); // So the view doesn't keep a reference to the disposed player
+            mediaView = null;
+            getChildren().remove(demoVideoScalePane);
+            demoVideoScalePane = null;
+            if (!getChildren().contains(demoImageScalePane))
+                getChildren().add(0, demoImageScalePane);
+        }
+    }
+
     String getDemoLink() {
         return demoLink;
     }
@@ -0,0 +1,68 @@
+package dev.webfx.website.application.demos;
+
+/**
+ * Declarative grid of the demos page. Each cell places a demo thumbnail in grid units (columns & rows, which can be
+ * fractional to share a grid slot between 2 demos, or bigger than 1 to span several slots), with a placement for the
+ * landscape orientation (when the grid slots are wider than tall) and another one for the portrait orientation.
+ *
+ * The normalised rectangles (in fraction of the page size) are computed once per orientation and then memoised, so a
+ * resize is just a lookup followed by a scaling to the page size.
+ *
+ * @author Bruno Salmon
+ */
+final class DemosGrid {
+
+    private final int columns, rows;
+    private final Cell[] cells;
+    private double[][] landscapeRects, portraitRects; // memoised solutions (x, y, width, height per cell)
+
+    DemosGrid(int columns, int rows, Cell... cells) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cells = cells;
+    }
+
+    int getCellsCount() {
+        return cells.length;
+    }
+
+    DemoThumbnail getThumbnail(int cellIndex) {
+        return cells[cellIndex].thumbnail;
+    }
+
+    // Returns the normalised rectangles for that page size (the orientation is the only rule depending on the size)
+    double[][] solve(double width, double height) {
+        boolean landscape = width / columns > height / rows;
+        double[][] rects = landscape ? landscapeRects : portraitRects;
+        if (rects == null) {
+            rects = new double[cells.length][];
+            for (int i = 0; i < cells.length; i++) {
+                double[] unitRect = landscape ? cells[i].landscape : cells[i].portrait;
+                rects[i] = new double[] { unitRect[0] / columns, unitRect[1] / rows, unitRect[2] / columns, unitRect[3] / rows };
+            }
+            if (landscape)
+                landscapeRects = rects;
+            else
+                portraitRects = rects;
+        }
+        return rects;
+    }
+
+    static final class Cell {
+        private final DemoThumbnail thumbnail;
+        private final double[] landscape, portrait; // col, row, colSpan, rowSpan
+
+        // Same placement in both orientations
+        Cell(DemoThumbnail thumbnail, double col, double row, double colSpan, double rowSpan) {
+            this(thumbnail, col, row, colSpan, rowSpan, col, row, colSpan, rowSpan);
+        }
+
+        Cell(DemoThumbnail thumbnail,
+             double landscapeCol, double landscapeRow, double landscapeColSpan, double landscapeRowSpan,
+             double portraitCol,  double portraitRow,  double portraitColSpan,  double portraitRowSpan) {
+            this.thumbnail = thumbnail;
+            landscape = new double[] { landscapeCol, landscapeRow, landscapeColSpan, landscapeRowSpan };
+            portrait  = new double[] { portraitCol,  portraitRow,  portraitColSpan,  portraitRowSpan };
+        }
+    }
+}
@@ -2,11 +2,9 @@ package dev.webfx.website.application.demos;
 
 import dev.webfx.extras.panes.ScaleMode;
 import dev.webfx.website.application.shared.WebSiteShared;
-import javafx.collections.ObservableList;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
-import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
@@ -31,66 +29,67 @@ public final class DemosPage extends Pane {
             mandelbrot   = new DemoThumbnail("Mandelbrot", WEBASSEMBLY, ScaleMode.BEST_ZOOM), // "Mandelbrot.png")
             cube         = new DemoThumbnail("Cube", WEBGL, ScaleMode.BEST_FIT, "Cube.png", "https://cube.webfx.dev", "https://github.com/webfx-demos/webfx-demo-cube/blob/main/webfx-demo-cube-application/src/main/java/dev/webfx/demo/cube/CubeApplication.java", "https://webfx-demos.github.io/webfx-demos-videos/Cube.mp4", Color.web("#310E68"));
 
+    // The demos are placed on a 3 x 3 grid. In landscape mode, the slot of the first column is shared by 2 demos side by
+    // side in the first 2 rows. In portrait mode, the first column is split into 4 shorter demos (and JArkanoid moves to
+    // the third column). SpaceFX is always twice taller.
+    private final static DemosGrid GRID = new DemosGrid(3, 3,
+            //                         landscape: col  row  w    h      portrait: col  row  w    h
+            new DemosGrid.Cell(tallyCounter,    0,   0,   0.5, 1,               0,   0,   1,   0.5),
+            new DemosGrid.Cell(modernGauge,     0.5, 0,   0.5, 1,               0,   0.5, 1,   0.5),
+            new DemosGrid.Cell(spaceFX,         1,   0,   1,   2),
+            new DemosGrid.Cell(enzoClocks,      2,   0,   1,   1,               0,   1,   1,   0.5),
+            new DemosGrid.Cell(jArkanoid,       0.5, 1,   0.5, 1,               2,   0,   1,   1),
+            new DemosGrid.Cell(tetris,          0,   1,   0.5, 1,               0,   1.5, 1,   0.5),
+            new DemosGrid.Cell(demoFX,          2,   1,   1,   1),
+            new DemosGrid.Cell(rayTracer,       0,   2,   1,   1),
+            new DemosGrid.Cell(mandelbrot,      1,   2,   1,   1),
+            new DemosGrid.Cell(cube,            2,   2,   1,   1)
+    );
+
+    // Maximum number of videos playing at the same time (each one is a video decoder running)
+    private final static int DEFAULT_MAX_PLAYING_VIDEOS = 4;
+
+    private final VideoPlayerPool videoPlayerPool = new VideoPlayerPool(DEFAULT_MAX_PLAYING_VIDEOS);
 
     public DemosPage() {
-        super(tallyCounter, modernGauge, spaceFX, enzoClocks, jArkanoid, tetris, demoFX, rayTracer, mandelbrot, cube); // 9 featured demos
-        for (Node child : getChildren())
-            WebSiteShared.runOnMouseClick(child, () -> WebSiteShared.openUrl(((DemoThumbnail) child).getDemoLink()));
+        for (int i = 0; i < GRID.getCellsCount(); i++) {
+            DemoThumbnail demoThumbnail = GRID.getThumbnail(i);
+            getChildren().add(demoThumbnail);
+            demoThumbnail.setClip(new Rectangle());
+            WebSiteShared.runOnMouseClick(demoThumbnail, () -> WebSiteShared.openUrl(demoThumbnail.getDemoLink()));
+            videoPlayerPool.addThumbnail(demoThumbnail);
+        }
+    }
+
+    public int getMaxPlayingVideos() {
+        return videoPlayerPool.getMaxPlayers();
+    }
+
+    public void setMaxPlayingVideos(int maxPlayingVideos) {
+        videoPlayerPool.setMaxPlayers(maxPlayingVideos);
     }
 
     @Override
     protected void layoutChildren() {
         double width = getWidth(), height = getHeight();
-        ObservableList<Node> children = getChildren();
-        int n = children.size(); // 10
-        int p = 3; // number of columns
-        int q = 3; // number of rows
-        double gap = 0.01 * width;
-        Insets margin = new Insets(0, 0, gap, gap);
-        double wp = (width - margin.getLeft() - margin.getRight()) / p;
-        double hp = (height) / q;
-        for (int i = 0; i < n; i++) {
-            Node demoThumbnail = children.get(i);
-            // General rule: the demo thumbnail is on a 3 x 3 grid
-            int col = Math.max(0, (i -1) % p), row = Math.max(0, (i - 1) / p);
-            double x = col * wp, y = row * hp, w = wp, h = hp;
-            // Managing exceptions:
-            if (demoThumbnail == spaceFX) // Making SpaceFX twice taller
-                h = 2 * hp;
-            else if (w > h) { // When width is bigger than height (landscape mode)
-                if (demoThumbnail == tallyCounter || demoThumbnail == tetris) { // Making Modern Gauge twice smaller in width
-                    w = wp / 2;
-                    x = 0;
-                } else if (demoThumbnail == modernGauge || demoThumbnail == jArkanoid) { // Making Tetris twice smaller in width
-                    w = wp / 2;
-                    x = 0.5 * wp; // also correcting position so it just after Modern Gauge
-                }
-            } else { // when height is bigger than width (portrait mode)
-                if (demoThumbnail == tallyCounter) { // Making Tally Counter twice shorter
-                    h = hp / 2;
-                } else if (demoThumbnail == modernGauge) { // Moving Moder Gauge to the left
-                    y = h = hp / 2;
-                    x = 0;
-                } else if (demoThumbnail == enzoClocks) { // Making Enzo Clocks twice shorter
-                    h = hp / 2;
-                    x = 0; // also correcting position so it is just under Tally Counter
-                    y = 2 * h;
-                } else if (demoThumbnail == tetris) { // Moving Tetris to the right
-                    h = hp / 2;
-                    x = 0; // also correcting position so it is just under Tally Counter
-                    y = 3 * h;
-                } else if (demoThumbnail == jArkanoid) { // Moving Tetris to the right
-                    y = 0;
-                    x = 2 * wp;
-                }
-            }
-            layoutInArea(demoThumbnail, x, y, w, h, 0, margin, HPos.LEFT, VPos.TOP);
-            demoThumbnail.setClip(new Rectangle(0, 0, ((Region) demoThumbnail).getWidth(), ((Region) demoThumbnail).getHeight()));
+        double gap = 0.01 * width, gridWidth = width - gap; // Each thumbnail has a left & bottom margin of gap
+        double[][] rects = GRID.solve(gridWidth, height);
+        for (int i = 0; i < rects.length; i++) {
+            Region demoThumbnail = GRID.getThumbnail(i);
+            double[] rect = rects[i];
+            double x = rect[0] * gridWidth, y = rect[1] * height, w = rect[2] * gridWidth, h = rect[3] * height;
+            layoutInArea(demoThumbnail, x + gap, y, w - gap, h - gap, 0, Insets.EMPTY, HPos.LEFT, VPos.TOP);
+            Rectangle clip = (Rectangle) demoThumbnail.getClip(); // Reused on each pass
+            clip.setWidth(demoThumbnail.getWidth());
+            clip.setHeight(demoThumbnail.getHeight());
         }
     }
 
-    public void startVideos() {
-        for (Node child : getChildren())
-            ((DemoThumbnail) child).startVideo();
+    public void startVideos() { // Called by the WebFXWebsiteApplication when the demos page is shown
+        videoPlayerPool.setActive(true);
+    }
+
+    public void stopVideos() { // Called by the WebFXWebsiteApplication when the demos page is hidden
+        videoPlayerPool.setActive(false);
     }
 }
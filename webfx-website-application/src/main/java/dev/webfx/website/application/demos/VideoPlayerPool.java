@@ -0,0 +1,84 @@
+package dev.webfx.website.application.demos;
+
+import javafx.scene.input.MouseEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decides which demo thumbnails play their video, so that the number of concurrent video decoders stays under a
+ * budget (each thumbnail video is a looping MP4, and decoding all of them at once pins the CPU of mid-range phones).
+ *
+ * The hovered thumbnail has the priority, then the thumbnails already playing, then the other ones in the page order
+ * (the demos grid fits the page, so all the thumbnails of the shown page are in the viewport). The thumbnails over
+ * budget keep displaying their static image, and all players are released while the demos page is hidden.
+ *
+ * @author Bruno Salmon
+ */
+final class VideoPlayerPool {
+
+    private final List<DemoThumbnail> thumbnails = new ArrayList<>();
+    private int maxPlayers;
+    private boolean active;
+    private DemoThumbnail hoveredThumbnail;
+
+    VideoPlayerPool(int maxPlayers) {
+        this.maxPlayers = maxPlayers;
+    }
+
+    void addThumbnail(DemoThumbnail thumbnail) {
+        thumbnails.add(thumbnail);
+        thumbnail.addEventHandler(MouseEvent.MOUSE_ENTERED, e -> setHoveredThumbnail(thumbnail));
+        thumbnail.addEventHandler(MouseEvent.MOUSE_EXITED,  e -> {
+            if (hoveredThumbnail == thumbnail)
+                setHoveredThumbnail(null);
+        });
+    }
+
+    int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    void setMaxPlayers(int maxPlayers) {
+        this.maxPlayers = maxPlayers;
+        updatePlayers();
+    }
+
+    void setActive(boolean active) { // Set to false when the demos page is hidden
+        this.active = active;
+        updatePlayers();
+    }
+
+    private void setHoveredThumbnail(DemoThumbnail hoveredThumbnail) {
+        this.hoveredThumbnail = hoveredThumbnail;
+        // Note: when the hovered thumbnail is exited, we keep the players as is (no need to restart another video)
+        if (hoveredThumbnail != null)
+            updatePlayers();
+    }
+
+    void updatePlayers() {
+        List<DemoThumbnail> playingThumbnails = new ArrayList<>(maxPlayers);
+        if (active) {
+            if (maxPlayers > 0 && hoveredThumbnail != null && canPlay(hoveredThumbnail))
+                playingThumbnails.add(hoveredThumbnail);
+            // Keeping the already playing videos in priority (avoids restarting videos from the beginning)
+            for (DemoThumbnail thumbnail : thumbnails)
+                if (playingThumbnails.size() < maxPlayers && thumbnail.isVideoStarted() && canPlay(thumbnail) && !playingThumbnails.contains(thumbnail))
+                    playingThumbnails.add(thumbnail);
+            for (DemoThumbnail thumbnail : thumbnails)
+                if (playingThumbnails.size() < maxPlayers && canPlay(thumbnail) && !playingThumbnails.contains(thumbnail))
+                    playingThumbnails.add(thumbnail);
+        }
+        // Releasing the players first, so the number of concurrent decoders never exceeds the budget
+        for (DemoThumbnail thumbnail : thumbnails)
+            if (!playingThumbnails.contains(thumbnail))
+                thumbnail.stopVideo();
+        for (DemoThumbnail thumbnail : playingThumbnails)
+            thumbnail.startVideo();
+    }
+
+    // Excludes the thumbnails without video, and those not displayed (ex: hidden or not yet laid out)
+    private static boolean canPlay(DemoThumbnail thumbnail) {
+        return thumbnail.hasVideo() && thumbnail.isVisible() && thumbnail.getWidth() > 0 && thumbnail.getHeight() > 0;
+    }
+}
@@ -2,6 +2,7 @@ package dev.webfx.website.application.images;
 
 import dev.webfx.kit.launcher.WebFxKitLauncher;
 import dev.webfx.platform.resource.Resource;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 /**
@@ -13,6 +14,10 @@ public final class ImageLoader {
         return new ImageView(toImageUrl(resourcePath));
     }
 
+    public static Image loadImageInBackground(String resourcePath) {
+        return new Image(toImageUrl(resourcePath), true);
+    }
+
     public static String toImageUrl(String resourcePath) {
         if (WebFxKitLauncher.supportsWebPImageFormat())
             resourcePath = resourcePath.replace(".png", ".webp");
@@ -0,0 +1,99 @@
+package dev.webfx.website.application.shared;
+
+import javafx.animation.Animation;
+import javafx.animation.Timeline;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Suspends the animations that nobody can see. The cards pane tells the governor which cards are in its viewport, and
+ * the application tells which page is shown. An animation is governed through its owner node: it actually runs only
+ * when neither the owner nor any of its ancestors has been marked as hidden, and it's resumed when they are shown
+ * again.
+ *
+ * Animation timers are governed by extending GovernedAnimationTimer, and timelines by calling governTimeline().
+ *
+ * @author Bruno Salmon
+ */
+public final class AnimationGovernor {
+
+    private static final Set<Node> HIDDEN_NODES = new HashSet<>();
+    private static final List<Governed> GOVERNED_ANIMATIONS = new ArrayList<>();
+
+    interface Governed {
+        void update();
+    }
+
+    public static void setShown(Node node, boolean shown) {
+        if (shown ? HIDDEN_NODES.remove(node) : HIDDEN_NODES.add(node))
+            updateAll();
+    }
+
+    public static boolean isShown(Node node) {
+        for (Node n = node; n != null; n = n.getParent())
+            if (HIDDEN_NODES.contains(n))
+                return false;
+        return true;
+    }
+
+    static void register(Governed governed) {
+        if (!GOVERNED_ANIMATIONS.contains(governed))
+            GOVERNED_ANIMATIONS.add(governed);
+    }
+
+    static void unregister(Governed governed) {
+        GOVERNED_ANIMATIONS.remove(governed);
+    }
+
+    private static void updateAll() {
+        // Copying the list, as updates may register or unregister animations
+        for (Governed governed : GOVERNED_ANIMATIONS.toArray(new Governed[0]))
+            governed.update();
+    }
+
+    public static Timeline governTimeline(Node owner, Timeline timeline) {
+        GovernedTimeline governedTimeline = new GovernedTimeline(owner, timeline);
+        timeline.statusProperty().addListener((observable, oldStatus, status) -> governedTimeline.onStatusChanged(status));
+        governedTimeline.onStatusChanged(timeline.getStatus());
+        return timeline;
+    }
+
+    private static final class GovernedTimeline implements Governed {
+        private final Node owner;
+        private final Timeline timeline;
+        private boolean pausedByGovernor, governorPausing;
+
+        GovernedTimeline(Node owner, Timeline timeline) {
+            this.owner = owner;
+            this.timeline = timeline;
+        }
+
+        void onStatusChanged(Animation.Status status) {
+            if (status == Animation.Status.RUNNING) {
+                register(this);
+                update();
+            } else if (!governorPausing) { // Finished, or stopped or paused by the application (even while off-screen)
+                pausedByGovernor = false;
+                unregister(this);
+            }
+        }
+
+        @Override
+        public void update() {
+            boolean shown = isShown(owner);
+            if (!shown && timeline.getStatus() == Animation.Status.RUNNING) {
+                pausedByGovernor = governorPausing = true;
+                timeline.pause();
+                governorPausing = false;
+            } else if (shown && pausedByGovernor) {
+                pausedByGovernor = false;
+                if (timeline.getStatus() == Animation.Status.PAUSED) // Only resuming a timeline still paused by the governor
+                    timeline.play();
+            }
+        }
+    }
+}
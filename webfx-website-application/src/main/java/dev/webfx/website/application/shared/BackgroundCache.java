@@ -0,0 +1,156 @@
+package dev.webfx.website.application.shared;
+
+import javafx.scene.layout.*;
+import javafx.scene.paint.Paint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of the Background and Border instances, keyed by (type, paint, radii, widths). Many regions share the
+ * same styles (ex: the cards backgrounds, the demos category colors or the circles borders), and some are restyled
+ * again with the same values (ex: a circle resized with the same stroke), so this avoids allocating a new Background
+ * (or Border) and its fill (or stroke) on each call. The animated fills (a new paint on each frame) must not use this
+ * cache, as they would only evict the reusable entries.
+ *
+ * The cache evicts the least recently used entry once full, and the lookups use a single mutable probe key, so a hit
+ * doesn't allocate anything. Hits, misses and evictions are counted to monitor the efficiency of the cache.
+ *
+ * @author Bruno Salmon
+ */
+public final class BackgroundCache {
+
+    private final static int DEFAULT_CAPACITY = 256;
+
+    private static int capacity = DEFAULT_CAPACITY;
+    private static long hits, misses, evictions;
+    private static final Key PROBE = new Key();
+    private static final Map<Key, Object> CACHE = new LinkedHashMap<Key, Object>(16, 0.75f, true) { // access order
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            boolean evict = size() > capacity;
+            if (evict)
+                evictions++;
+            return evict;
+        }
+    };
+
+    public static Background getBackground(Paint fill, CornerRadii radii) {
+        Background background = (Background) get(Background.class, fill, radii, null);
+        if (background == null)
+            put(Background.class, fill, radii, null, background = createBackground(fill, radii));
+        return background;
+    }
+
+    // Uncached version (for the animated fills)
+    public static Background createBackground(Paint fill, CornerRadii radii) {
+        return new Background(new BackgroundFill(fill, radii, null));
+    }
+
+    public static Border getBorder(Paint stroke, CornerRadii radii, BorderWidths widths) {
+        Border border = (Border) get(Border.class, stroke, radii, widths);
+        if (border == null)
+            put(Border.class, stroke, radii, widths, border = new Border(new BorderStroke(stroke, BorderStrokeStyle.SOLID, radii, widths)));
+        return border;
+    }
+
+    private static Object get(Class<?> type, Paint paint, CornerRadii radii, BorderWidths widths) {
+        Object value = CACHE.get(PROBE.set(type, paint, radii, widths));
+        PROBE.set(null, null, null, null); // Not retaining the paint
+        if (value != null)
+            hits++;
+        else
+            misses++;
+        return value;
+    }
+
+    private static void put(Class<?> type, Paint paint, CornerRadii radii, BorderWidths widths, Object value) {
+        CACHE.put(new Key().set(type, paint, radii, widths), value);
+    }
+
+    public static int getCapacity() {
+        return capacity;
+    }
+
+    public static void setCapacity(int capacity) {
+        BackgroundCache.capacity = Math.max(1, capacity);
+        // Trimming the least recently used entries if the new capacity is smaller
+        while (CACHE.size() > BackgroundCache.capacity) {
+            CACHE.remove(CACHE.keySet().iterator().next());
+            evictions++;
+        }
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static long getEvictions() {
+        return evictions;
+    }
+
+    public static double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public static void resetStats() {
+        hits = misses = evictions = 0;
+    }
+
+    public static void clear() {
+        CACHE.clear();
+        resetStats();
+    }
+
+    public static String toJson() {
+        return "{\"capacity\": " + capacity +
+                ", \"size\": " + CACHE.size() +
+                ", \"hits\": " + hits +
+                ", \"misses\": " + misses +
+                ", \"evictions\": " + evictions +
+                ", \"hitRate\": " + Math.round(getHitRate() * 1000) / 1000d +
+                '}';
+    }
+
+    private static final class Key {
+        private Class<?> type; // Background or Border (so a background and a border with the same values don't collide)
+        private Paint paint;
+        private CornerRadii radii;
+        private BorderWidths widths; // null for backgrounds
+        private int hash;
+
+        Key set(Class<?> type, Paint paint, CornerRadii radii, BorderWidths widths) {
+            this.type = type;
+            this.paint = paint;
+            this.radii = radii;
+            this.widths = widths;
+            hash = 31 * (31 * (31 * Objects.hashCode(type) + Objects.hashCode(paint)) + Objects.hashCode(radii)) + Objects.hashCode(widths);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return hash == key.hash && type == key.type && Objects.equals(paint, key.paint) && Objects.equals(radii, key.radii) && Objects.equals(widths, key.widths);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
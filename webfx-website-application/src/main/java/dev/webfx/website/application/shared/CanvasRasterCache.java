@@ -0,0 +1,69 @@
+package dev.webfx.website.application.shared;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Canvas drawing cached as a raster keyed by a quantised size. The canvas is painted at the size of the bucket (the
+ * size rounded up to a multiple of the bucket step), and is then centred on the exact area without being stretched (a
+ * stretch would distort the drawing, as the width and height are not rounded up in the same proportion). So the
+ * painter is called only when the size bucket changes, and not on each layout pass (such as those triggered by a flip
+ * or by each tick of a resize). The parent can place the nodes related to the drawing from the painted size (see
+ * getPaintedWidth() and getPaintedHeight()).
+ *
+ * The canvas can be reused by successive parents (ex: a new illustration pane created for the same card step), which
+ * keeps the cached raster.
+ *
+ * @author Bruno Salmon
+ */
+public final class CanvasRasterCache {
+
+    public interface Painter {
+        void paint(GraphicsContext ctx, double width, double height);
+    }
+
+    private final Canvas canvas = new Canvas();
+    private final double bucketStep;
+    private final Painter painter;
+    private double paintedWidth, paintedHeight;
+
+    public CanvasRasterCache(double bucketStep, Painter painter) {
+        this.bucketStep = bucketStep;
+        this.painter = painter;
+        canvas.setManaged(false); // Positioned by resize() only
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public double getPaintedWidth() {
+        return paintedWidth;
+    }
+
+    public double getPaintedHeight() {
+        return paintedHeight;
+    }
+
+    // To be called by the parent on layout (before reading the painted size)
+    public void resize(double width, double height) {
+        double bucketWidth = bucket(width), bucketHeight = bucket(height);
+        if (bucketWidth != paintedWidth || bucketHeight != paintedHeight) {
+            canvas.setWidth(bucketWidth);
+            canvas.setHeight(bucketHeight);
+            GraphicsContext ctx = canvas.getGraphicsContext2D();
+            ctx.clearRect(0, 0, bucketWidth, bucketHeight);
+            if (bucketWidth > 0 && bucketHeight > 0)
+                painter.paint(ctx, bucketWidth, bucketHeight);
+            paintedWidth = bucketWidth;
+            paintedHeight = bucketHeight;
+        }
+        // Centering the cached raster on the exact area (it overflows by less than a bucket step)
+        canvas.setTranslateX((width - bucketWidth) / 2);
+        canvas.setTranslateY((height - bucketHeight) / 2);
+    }
+
+    private double bucket(double size) {
+        return size <= 0 ? 0 : Math.ceil(size / bucketStep) * bucketStep;
+    }
+}
@@ -0,0 +1,60 @@
+package dev.webfx.website.application.shared;
+
+import javafx.scene.paint.LinearGradient;
+
+import java.util.Arrays;
+
+/**
+ * Cache of the animated GitHub gradients, so that the per-frame paths (that animate the gradient angle or shift) don't
+ * allocate a new LinearGradient on each pulse. The angle and the shift are quantised into a bounded set of buckets,
+ * and the gradient of each bucket is created once and then reused.
+ *
+ * Angle gradients are shared by the whole application (static cache), while vertical shifted gradients are cached per
+ * instance for a given length (the cache is reset when the length changes, which should happen only on resize).
+ *
+ * @author Bruno Salmon
+ */
+public final class GithubGradientCache {
+
+    private final static double TWO_PI = 2 * Math.PI;
+    private final static int ANGLE_BUCKETS = 512; // ~0.7 degree per bucket
+    private final static LinearGradient[] ANGLE_GRADIENTS = new LinearGradient[ANGLE_BUCKETS];
+
+    public static LinearGradient getAngleGradient(double angle) {
+        int bucket = bucket(angle, TWO_PI, ANGLE_BUCKETS);
+        LinearGradient gradient = ANGLE_GRADIENTS[bucket];
+        if (gradient == null)
+            ANGLE_GRADIENTS[bucket] = gradient = WebSiteShared.createAngleGithubGradient(bucket * TWO_PI / ANGLE_BUCKETS);
+        return gradient;
+    }
+
+    private final LinearGradient[] shiftGradients;
+    private double length = -1;
+
+    public GithubGradientCache(int shiftBuckets) {
+        shiftGradients = new LinearGradient[shiftBuckets];
+    }
+
+    public LinearGradient getVerticalGradient(double length, double shift) {
+        if (length != this.length) {
+            Arrays.fill(shiftGradients, null);
+            this.length = length;
+        }
+        int shiftBuckets = shiftGradients.length;
+        int bucket = bucket(shift, length, shiftBuckets);
+        LinearGradient gradient = shiftGradients[bucket];
+        if (gradient == null)
+            shiftGradients[bucket] = gradient = WebSiteShared.createVerticalGithubGradiant(length, bucket * length / shiftBuckets);
+        return gradient;
+    }
+
+    // Returns the bucket of the value once brought back into [0, period[ (as the gradients are periodic)
+    private static int bucket(double value, double period, int buckets) {
+        if (period <= 0)
+            return 0;
+        double normalized = value % period;
+        if (normalized < 0)
+            normalized += period;
+        return Math.min(buckets - 1, (int) (normalized / period * buckets));
+    }
+}
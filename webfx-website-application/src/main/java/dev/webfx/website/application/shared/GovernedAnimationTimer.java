@@ -0,0 +1,55 @@
+package dev.webfx.website.application.shared;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+
+/**
+ * An animation timer that actually runs only while its owner node is shown (see AnimationGovernor). start() and stop()
+ * express the requested state, and the timer is suspended and resumed by the governor depending on the owner
+ * visibility.
+ *
+ * @author Bruno Salmon
+ */
+public abstract class GovernedAnimationTimer extends AnimationTimer implements AnimationGovernor.Governed {
+
+    private final Node owner;
+    private boolean requestedRunning, actuallyRunning;
+
+    public GovernedAnimationTimer(Node owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public void start() {
+        requestedRunning = true;
+        AnimationGovernor.register(this);
+        update();
+    }
+
+    @Override
+    public void stop() {
+        requestedRunning = false;
+        AnimationGovernor.unregister(this);
+        update();
+    }
+
+    public boolean isRequestedRunning() {
+        return requestedRunning;
+    }
+
+    public boolean isActuallyRunning() {
+        return actuallyRunning;
+    }
+
+    @Override
+    public void update() {
+        boolean run = requestedRunning && AnimationGovernor.isShown(owner);
+        if (run != actuallyRunning) {
+            actuallyRunning = run;
+            if (run)
+                super.start();
+            else
+                super.stop();
+        }
+    }
+}
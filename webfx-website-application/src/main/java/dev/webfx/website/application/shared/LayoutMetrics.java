@@ -0,0 +1,146 @@
+package dev.webfx.website.application.shared;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the layout passes of all LayoutPane instances, grouped by concrete class. For each class, it counts the
+ * layout passes (and among them, those triggered by a size change and those triggered by a dirty layout, which are
+ * counted independently, as a pass can be both), their cumulative duration, the number of forceLayoutChildren()
+ * requests (and how many of them were merged into an already scheduled pass by LayoutScheduler), and the skipped
+ * passes (layout requests that reached the pane while its layout was clean). This is to identify the layout storms
+ * (ex: a property invalidation calling forceLayoutChildren() on each animation frame).
+ *
+ * Recording is disabled by default (so there is no overhead in production) and can be enabled at runtime.
+ *
+ * @author Bruno Salmon
+ */
+public final class LayoutMetrics {
+
+    private static boolean enabled;
+    private static final Map<Class<?>, ClassMetrics> CLASS_METRICS = new LinkedHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        LayoutMetrics.enabled = enabled;
+    }
+
+    public static void reset() {
+        CLASS_METRICS.clear();
+    }
+
+    public static Collection<ClassMetrics> getAllClassMetrics() {
+        return new ArrayList<>(CLASS_METRICS.values());
+    }
+
+    public static ClassMetrics getClassMetrics(Class<?> layoutPaneClass) {
+        return CLASS_METRICS.get(layoutPaneClass);
+    }
+
+    static void recordLayoutPass(LayoutPane layoutPane, boolean sizeChanged, boolean dirty, long durationNanos) {
+        ClassMetrics metrics = getOrCreateClassMetrics(layoutPane);
+        metrics.passes++;
+        if (sizeChanged)
+            metrics.sizeTriggeredPasses++;
+        if (dirty) // Also counted during a resize (ex: a forced layout in the same pass)
+            metrics.dirtyTriggeredPasses++;
+        metrics.cumulativeNanos += durationNanos;
+    }
+
+    static void recordForceRequest(LayoutPane layoutPane) {
+        getOrCreateClassMetrics(layoutPane).forceRequests++;
+    }
+
+    static void recordMergedForceRequest(LayoutPane layoutPane) {
+        getOrCreateClassMetrics(layoutPane).mergedForceRequests++;
+    }
+
+    static void recordSkippedPass(LayoutPane layoutPane) {
+        getOrCreateClassMetrics(layoutPane).skippedPasses++;
+    }
+
+    private static ClassMetrics getOrCreateClassMetrics(LayoutPane layoutPane) {
+        Class<?> layoutPaneClass = layoutPane.getClass();
+        ClassMetrics metrics = CLASS_METRICS.get(layoutPaneClass);
+        if (metrics == null)
+            CLASS_METRICS.put(layoutPaneClass, metrics = new ClassMetrics(layoutPaneClass.getName()));
+        return metrics;
+    }
+
+    public static String toJson() {
+        List<ClassMetrics> allMetrics = new ArrayList<>(CLASS_METRICS.values());
+        allMetrics.sort((m1, m2) -> Long.compare(m2.cumulativeNanos, m1.cumulativeNanos));
+        StringBuilder sb = new StringBuilder("[");
+        for (ClassMetrics metrics : allMetrics) {
+            if (sb.length() > 1)
+                sb.append(',');
+            sb.append("\n  ");
+            metrics.appendJson(sb);
+        }
+        return sb.append("\n]").toString();
+    }
+
+    public static final class ClassMetrics {
+        private final String className;
+        private int passes, sizeTriggeredPasses, dirtyTriggeredPasses, forceRequests, mergedForceRequests, skippedPasses;
+        private long cumulativeNanos;
+
+        private ClassMetrics(String className) {
+            this.className = className;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public int getPasses() {
+            return passes;
+        }
+
+        public int getSizeTriggeredPasses() {
+            return sizeTriggeredPasses;
+        }
+
+        public int getDirtyTriggeredPasses() {
+            return dirtyTriggeredPasses;
+        }
+
+        public int getForceRequests() {
+            return forceRequests;
+        }
+
+        public int getMergedForceRequests() {
+            return mergedForceRequests;
+        }
+
+        public int getSkippedPasses() {
+            return skippedPasses;
+        }
+
+        public long getCumulativeNanos() {
+            return cumulativeNanos;
+        }
+
+        public double getCumulativeMillis() {
+            return cumulativeNanos / 1_000_000d;
+        }
+
+        private void appendJson(StringBuilder sb) {
+            sb.append("{\"class\": \"").append(className)
+                    .append("\", \"passes\": ").append(passes)
+                    .append(", \"sizeTriggeredPasses\": ").append(sizeTriggeredPasses)
+                    .append(", \"dirtyTriggeredPasses\": ").append(dirtyTriggeredPasses)
+                    .append(", \"forceRequests\": ").append(forceRequests)
+                    .append(", \"mergedForceRequests\": ").append(mergedForceRequests)
+                    .append(", \"skippedPasses\": ").append(skippedPasses)
+                    .append(", \"cumulativeMillis\": ").append(Math.round(getCumulativeMillis() * 1000) / 1000d)
+                    .append('}');
+        }
+    }
+}
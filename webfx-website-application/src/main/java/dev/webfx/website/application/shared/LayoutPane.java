@@ -1,7 +1,6 @@
 package dev.webfx.website.application.shared;
 
-import dev.webfx.platform.uischeduler.AnimationFramePass;
-import dev.webfx.platform.uischeduler.UiScheduler;
+import javafx.beans.Observable;
 import javafx.collections.ListChangeListener;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
@@ -10,13 +9,28 @@ import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 
 /**
+ * Pane whose layout is computed by layoutChildren(width, height), which is called only when the layout is dirty, and
+ * not on each layout pass that reaches the pane. The layout gets dirty when the size changes, when the children
+ * change, when a layout is requested outside of any LayoutPane pass (ex: a child whose preferred size has changed, such
+ * as a text with a new content or an image that has finished loading), when a registered layout dependency changes
+ * (see addLayoutDependencies()), or when forceLayoutChildren() is called. The requests made during a pass (including
+ * those climbing to the ancestors when LayoutScheduler runs a pass outside the pulse) are a consequence of that pass,
+ * so they don't make the ancestors redo their own layout.
+ *
+ * Dirtiness is tracked with a generation counter: each dirty mark increments the generation, and a layout pass lays
+ * out the generation that was current when it started. So a dirty mark made during a pass (ex: by a property changed
+ * from layoutChildren()) is not lost, while the passes with nothing new to lay out are skipped (and counted by
+ * LayoutMetrics).
+ *
  * @author Bruno Salmon
  */
 public abstract class LayoutPane extends Pane {
 
     private double lastWidth, lastHeight;
-    protected boolean force;
-    private int layoutCount, forceRequestLayoutCount;
+    private int generation = 1, laidOutGeneration; // generation > laidOutGeneration means dirty
+    private int layoutCount;
+    private static int activePasses; // Number of LayoutPane passes in progress (a pass can be nested in another one)
+    boolean layoutScheduled; // Managed by LayoutScheduler
 
     public LayoutPane() {
     }
@@ -29,32 +43,68 @@ public abstract class LayoutPane extends Pane {
         getChildren().addListener(new ListChangeListener<Node>() {
             @Override
             public void onChanged(Change<? extends Node> change) {
-                force = true;
+                markLayoutDirty();
             }
         });
     }
 
+    @Override
+    public void requestLayout() {
+        if (activePasses == 0) // Otherwise the request is a consequence of the pass in progress
+            markLayoutDirty();
+        super.requestLayout();
+    }
+
+    private void markLayoutDirty() {
+        generation++;
+    }
+
+    private boolean isLayoutDirty() {
+        return generation != laidOutGeneration;
+    }
+
     @Override
     protected void layoutChildren() {
         double width = getWidth(), height = getHeight();
-        if (force || lastWidth != width || lastHeight != height) {
-            layoutCount++;
-            //  if (layoutCount > 1) dev.webfx.platform.console.Console.log("Layout count = " + layoutCount + " for " + getClass() + (lastWidth == width ? "" : ", width: " + lastWidth + " -> " + width) + (lastHeight == height ? "" : ", height: " + lastHeight + " -> " + height) + (!force ? "" : ", force: true"));
-            layoutChildren(width, height);
-            lastWidth = width;
-            lastHeight = height;
-            if (layoutCount - forceRequestLayoutCount > 7)
-                force = false;
+        boolean sizeChanged = lastWidth != width || lastHeight != height;
+        if (!sizeChanged && !isLayoutDirty()) {
+            if (LayoutMetrics.isEnabled())
+                LayoutMetrics.recordSkippedPass(this);
+            return;
+        }
+        boolean dirty = isLayoutDirty();
+        int passGeneration = generation;
+        layoutCount++;
+        activePasses++;
+        try {
+            if (LayoutMetrics.isEnabled()) {
+                long t0 = System.nanoTime();
+                layoutChildren(width, height);
+                LayoutMetrics.recordLayoutPass(this, sizeChanged, dirty, System.nanoTime() - t0);
+            } else
+                layoutChildren(width, height);
+        } finally {
+            activePasses--;
         }
+        lastWidth = width;
+        lastHeight = height;
+        laidOutGeneration = passGeneration;
     }
 
     protected abstract void layoutChildren(double width, double height);
 
     public void forceLayoutChildren() {
-        force = true;
-        forceRequestLayoutCount = layoutCount;
+        markLayoutDirty();
+        if (LayoutMetrics.isEnabled())
+            LayoutMetrics.recordForceRequest(this);
         if (layoutCount >= 1) // Startup optimisation: no need to schedule another layout if the first one is still not yet done
-            UiScheduler.scheduleInAnimationFrame(this::layoutChildren, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+            LayoutScheduler.scheduleLayout(this); // Coalesced with the other requests of this frame
+    }
+
+    // Properties that are not layout properties for JavaFX, but that are read by layoutChildren(width, height)
+    public void addLayoutDependencies(Observable... dependencies) {
+        for (Observable dependency : dependencies)
+            dependency.addListener(observable -> forceLayoutChildren());
     }
 
     protected void layoutInArea(Node child, double areaX, double areaY, double areaWidth, double areaHeight) {
@@ -0,0 +1,59 @@
+package dev.webfx.website.application.shared;
+
+import dev.webfx.platform.uischeduler.AnimationFramePass;
+import dev.webfx.platform.uischeduler.UiScheduler;
+import javafx.scene.Parent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coalesces the forceLayoutChildren() requests into a single layout pass per pane and per animation frame. Animations
+ * often invalidate several layout dependencies in the same frame (ex: an expansion property and the title opacity), and
+ * each invalidation used to schedule its own layout callback. The requests for a pane already scheduled in this frame
+ * are now merged (and counted by LayoutMetrics).
+ *
+ * The scheduled panes are laid out parent first, so that a child is laid out after its parent has given it its final
+ * area. The requests made while laying out (ex: a parent forcing the layout of its children) are scheduled for the
+ * next frame.
+ *
+ * @author Bruno Salmon
+ */
+final class LayoutScheduler {
+
+    private static List<LayoutPane> scheduledPanes = new ArrayList<>();
+    private static boolean frameScheduled;
+
+    static void scheduleLayout(LayoutPane layoutPane) {
+        if (layoutPane.layoutScheduled) {
+            if (LayoutMetrics.isEnabled())
+                LayoutMetrics.recordMergedForceRequest(layoutPane);
+            return;
+        }
+        layoutPane.layoutScheduled = true;
+        scheduledPanes.add(layoutPane);
+        if (!frameScheduled) {
+            frameScheduled = true;
+            UiScheduler.scheduleInAnimationFrame(LayoutScheduler::layoutScheduledPanes, AnimationFramePass.SCENE_PULSE_LAYOUT_PASS);
+        }
+    }
+
+    private static void layoutScheduledPanes() {
+        frameScheduled = false;
+        List<LayoutPane> panes = scheduledPanes;
+        scheduledPanes = new ArrayList<>(); // Receives the requests made while laying out (for the next frame)
+        if (panes.size() > 1)
+            panes.sort((p1, p2) -> Integer.compare(depth(p1), depth(p2)));
+        for (LayoutPane pane : panes) {
+            pane.layoutScheduled = false;
+            pane.layoutChildren(); // Does nothing if the layout is not dirty anymore (ex: already done by the pulse)
+        }
+    }
+
+    private static int depth(Parent node) {
+        int depth = 0;
+        for (Parent parent = node.getParent(); parent != null; parent = parent.getParent())
+            depth++;
+        return depth;
+    }
+}
@@ -0,0 +1,69 @@
+package dev.webfx.website.application.shared;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Pane partially filled with a fixed paint, from the top or from the bottom, depending on its fill percent (0 = empty,
+ * 1 = full). The background is set once, and the progress is rendered by mutating a rectangle clip, so animating the
+ * fill percent doesn't allocate anything (unlike a 4-stops gradient background rebuilt on each animation frame).
+ *
+ * @author Bruno Salmon
+ */
+public final class ProgressFillPane extends LayoutPane {
+
+    private final Rectangle fillClip = new Rectangle();
+    private boolean fromBottom;
+    private final DoubleProperty fillPercentProperty = new SimpleDoubleProperty() {
+        @Override
+        protected void invalidated() {
+            updateFillClip();
+        }
+    };
+
+    public ProgressFillPane(Paint fill, boolean fromBottom) {
+        this.fromBottom = fromBottom;
+        WebSiteShared.setRegionBackground(this, fill);
+        setClip(fillClip);
+        setMouseTransparent(true);
+    }
+
+    public double getFillPercent() {
+        return fillPercentProperty.get();
+    }
+
+    public void setFillPercent(double fillPercent) {
+        fillPercentProperty.set(fillPercent);
+    }
+
+    public DoubleProperty fillPercentProperty() {
+        return fillPercentProperty;
+    }
+
+    public boolean isFromBottom() {
+        return fromBottom;
+    }
+
+    public void setFromBottom(boolean fromBottom) {
+        if (fromBottom != this.fromBottom) {
+            this.fromBottom = fromBottom;
+            updateFillClip();
+        }
+    }
+
+    @Override
+    protected void layoutChildren(double width, double height) {
+        updateFillClip();
+    }
+
+    private void updateFillClip() {
+        double width = getWidth(), height = getHeight();
+        double percent = Math.max(0, Math.min(1, getFillPercent()));
+        double fillHeight = percent * height;
+        fillClip.setWidth(width);
+        fillClip.setHeight(fillHeight);
+        fillClip.setY(fromBottom ? height - fillHeight : 0);
+    }
+}
@@ -0,0 +1,188 @@
+package dev.webfx.website.application.shared;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Bounds of the logo SVG paths, for the few places that need the size of a logo without a laid out SVGPath node (ex:
+ * the logos drawn on the frameworks chart canvas, or the wreath height of the cloud animation computed on each frame).
+ * The bounds are computed on the first request for a path content and then memoised.
+ *
+ * The memo is keyed by the content string reference, as the contents are string literals (SvgLogoPaths returns the
+ * same instance on each call). This avoids computing the hash code of these long strings.
+ *
+ * @author Bruno Salmon
+ */
+public final class SvgPathGeometry {
+
+    private static final Map<String, Bounds> BOUNDS = new IdentityHashMap<>();
+
+    public static Bounds getBounds(String content) {
+        Bounds bounds = BOUNDS.get(content);
+        if (bounds == null)
+            BOUNDS.put(content, bounds = BoundsComputer.computeBounds(content));
+        return bounds;
+    }
+
+    private static final class BoundsComputer implements SvgPathParser.Handler {
+        private double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        private double x, y, startX, startY, lastCtrlX, lastCtrlY;
+        private char lastCommand;
+
+        static Bounds computeBounds(String content) {
+            BoundsComputer computer = new BoundsComputer();
+            SvgPathParser.parse(content, computer);
+            return computer.getBounds();
+        }
+
+        @Override
+        public void onCommand(char command, double[] args) {
+            boolean relative = Character.isLowerCase(command);
+            double dx = relative ? x : 0, dy = relative ? y : 0;
+            switch (Character.toUpperCase(command)) {
+                case 'M':
+                    startX = x = dx + args[0]; startY = y = dy + args[1];
+                    addPoint(x, y);
+                    break;
+                case 'L':
+                    x = dx + args[0]; y = dy + args[1];
+                    addPoint(x, y);
+                    break;
+                case 'H':
+                    x = dx + args[0];
+                    addPoint(x, y);
+                    break;
+                case 'V':
+                    y = dy + args[0];
+                    addPoint(x, y);
+                    break;
+                case 'C': {
+                    double x1 = dx + args[0], y1 = dy + args[1];
+                    lastCtrlX = dx + args[2]; lastCtrlY = dy + args[3];
+                    double x3 = dx + args[4], y3 = dy + args[5];
+                    addCubic(x, y, x1, y1, lastCtrlX, lastCtrlY, x3, y3);
+                    x = x3; y = y3;
+                    break;
+                }
+                case 'S': {
+                    boolean smooth = "CcSs".indexOf(lastCommand) >= 0;
+                    double x1 = smooth ? 2 * x - lastCtrlX : x, y1 = smooth ? 2 * y - lastCtrlY : y;
+                    lastCtrlX = dx + args[0]; lastCtrlY = dy + args[1];
+                    double x3 = dx + args[2], y3 = dy + args[3];
+                    addCubic(x, y, x1, y1, lastCtrlX, lastCtrlY, x3, y3);
+                    x = x3; y = y3;
+                    break;
+                }
+                case 'Q': {
+                    lastCtrlX = dx + args[0]; lastCtrlY = dy + args[1];
+                    double x2 = dx + args[2], y2 = dy + args[3];
+                    addQuad(x, y, lastCtrlX, lastCtrlY, x2, y2);
+                    x = x2; y = y2;
+                    break;
+                }
+                case 'T': {
+                    boolean smooth = "QqTt".indexOf(lastCommand) >= 0;
+                    lastCtrlX = smooth ? 2 * x - lastCtrlX : x; lastCtrlY = smooth ? 2 * y - lastCtrlY : y;
+                    double x2 = dx + args[0], y2 = dy + args[1];
+                    addQuad(x, y, lastCtrlX, lastCtrlY, x2, y2);
+                    x = x2; y = y2;
+                    break;
+                }
+                case 'A': {
+                    double x2 = dx + args[5], y2 = dy + args[6];
+                    addArc(x, y, args[0], args[1], args[2], args[3] != 0, args[4] != 0, x2, y2);
+                    x = x2; y = y2;
+                    break;
+                }
+                case 'Z':
+                    x = startX; y = startY;
+                    break;
+            }
+            lastCommand = command;
+        }
+
+        private Bounds getBounds() {
+            if (minX > maxX)
+                return new BoundingBox(0, 0, 0, 0);
+            return new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+        }
+
+        private void addPoint(double x, double y) {
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+
+        private void addQuad(double x0, double y0, double x1, double y1, double x2, double y2) {
+            // Elevating the quadratic curve to a cubic one
+            addCubic(x0, y0, x0 + 2d / 3 * (x1 - x0), y0 + 2d / 3 * (y1 - y0), x2 + 2d / 3 * (x1 - x2), y2 + 2d / 3 * (y1 - y2), x2, y2);
+        }
+
+        private void addCubic(double x0, double y0, double x1, double y1, double x2, double y2, double x3, double y3) {
+            addPoint(x3, y3);
+            addCubicExtrema(x0, y0, x1, y1, x2, y2, x3, y3, true);
+            addCubicExtrema(x0, y0, x1, y1, x2, y2, x3, y3, false);
+        }
+
+        // Adds the points of the curve where the derivative (on x or y) is zero
+        private void addCubicExtrema(double x0, double y0, double x1, double y1, double x2, double y2, double x3, double y3, boolean onX) {
+            double p0 = onX ? x0 : y0, p1 = onX ? x1 : y1, p2 = onX ? x2 : y2, p3 = onX ? x3 : y3;
+            double a = -p0 + 3 * p1 - 3 * p2 + p3, b = 2 * (p0 - 2 * p1 + p2), c = p1 - p0;
+            if (Math.abs(a) < 1e-12) {
+                if (Math.abs(b) > 1e-12)
+                    addCubicPoint(x0, y0, x1, y1, x2, y2, x3, y3, -c / b);
+                return;
+            }
+            double delta = b * b - 4 * a * c;
+            if (delta < 0)
+                return;
+            double sqrt = Math.sqrt(delta);
+            addCubicPoint(x0, y0, x1, y1, x2, y2, x3, y3, (-b + sqrt) / (2 * a));
+            addCubicPoint(x0, y0, x1, y1, x2, y2, x3, y3, (-b - sqrt) / (2 * a));
+        }
+
+        private void addCubicPoint(double x0, double y0, double x1, double y1, double x2, double y2, double x3, double y3, double t) {
+            if (t <= 0 || t >= 1)
+                return;
+            double u = 1 - t, a = u * u * u, b = 3 * u * u * t, c = 3 * u * t * t, d = t * t * t;
+            addPoint(a * x0 + b * x1 + c * x2 + d * x3, a * y0 + b * y1 + c * y2 + d * y3);
+        }
+
+        private void addArc(double x1, double y1, double rx, double ry, double angleDegrees, boolean largeArc, boolean sweep, double x2, double y2) {
+            addPoint(x2, y2);
+            rx = Math.abs(rx); ry = Math.abs(ry);
+            if (rx == 0 || ry == 0 || x1 == x2 && y1 == y2)
+                return;
+            // Endpoint to center parameterization (SVG spec, appendix F.6.5)
+            double phi = Math.toRadians(angleDegrees), cos = Math.cos(phi), sin = Math.sin(phi);
+            double mx = (x1 - x2) / 2, my = (y1 - y2) / 2;
+            double x1p = cos * mx + sin * my, y1p = -sin * mx + cos * my;
+            double lambda = x1p * x1p / (rx * rx) + y1p * y1p / (ry * ry);
+            if (lambda > 1) {
+                double sqrtLambda = Math.sqrt(lambda);
+                rx *= sqrtLambda; ry *= sqrtLambda;
+            }
+            double num = rx * rx * ry * ry - rx * rx * y1p * y1p - ry * ry * x1p * x1p;
+            double den = rx * rx * y1p * y1p + ry * ry * x1p * x1p;
+            double coef = (largeArc == sweep ? -1 : 1) * Math.sqrt(Math.max(0, num / den));
+            double cxp = coef * rx * y1p / ry, cyp = -coef * ry * x1p / rx;
+            double cx = cos * cxp - sin * cyp + (x1 + x2) / 2, cy = sin * cxp + cos * cyp + (y1 + y2) / 2;
+            double theta1 = Math.atan2((y1p - cyp) / ry, (x1p - cxp) / rx);
+            double dTheta = Math.atan2((-y1p - cyp) / ry, (-x1p - cxp) / rx) - theta1;
+            if (sweep && dTheta < 0)
+                dTheta += 2 * Math.PI;
+            else if (!sweep && dTheta > 0)
+                dTheta -= 2 * Math.PI;
+            // Sampling the arc is precise enough for the bounds of a logo
+            int samples = 16;
+            for (int k = 1; k < samples; k++) {
+                double theta = theta1 + dTheta * k / samples, ex = rx * Math.cos(theta), ey = ry * Math.sin(theta);
+                addPoint(cx + cos * ex - sin * ey, cy + sin * ex + cos * ey);
+            }
+        }
+    }
+}
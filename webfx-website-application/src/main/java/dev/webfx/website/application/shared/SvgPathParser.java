@@ -0,0 +1,113 @@
+package dev.webfx.website.application.shared;
+
+/**
+ * Tokenizer of the SVG path contents, shared by the application (SvgPathGeometry, to compute the logos bounds) and by
+ * the build (SvgPathMinifier, to minify the logos paths). It has no JavaFX dependency, so the build can run it.
+ *
+ * The handler receives each command with its arguments as written in the path (so relative for a lowercase command).
+ * The implicit commands are made explicit (ex: the coordinates following a move are passed as line commands), and the
+ * arc flags are passed as 0 or 1. The arguments array is reused between commands, so the handler must not retain it.
+ *
+ * @author Bruno Salmon
+ */
+public final class SvgPathParser {
+
+    public interface Handler {
+        void onCommand(char command, double[] args);
+    }
+
+    private final String s;
+    private final double[][] argsByCount = new double[8][]; // Reused arrays, indexed by arguments count
+    private final int n;
+    private int i;
+
+    private SvgPathParser(String s) {
+        this.s = s;
+        n = s.length();
+    }
+
+    public static void parse(String content, Handler handler) {
+        new SvgPathParser(content).parse(handler);
+    }
+
+    private void parse(Handler handler) {
+        char command = 0;
+        while (skipSeparators()) {
+            char c = s.charAt(i);
+            if (Character.isLetter(c)) {
+                command = c;
+                i++;
+            } else if (command == 'M') // Implicit line commands after a move
+                command = 'L';
+            else if (command == 'm')
+                command = 'l';
+            int count = argsCount(command);
+            double[] args = argsByCount[count];
+            if (args == null)
+                argsByCount[count] = args = new double[count];
+            for (int k = 0; k < count; k++)
+                args[k] = isArcFlag(command, k) ? (nextFlag() ? 1 : 0) : nextNumber();
+            handler.onCommand(command, args);
+        }
+    }
+
+    private int argsCount(char command) {
+        switch (Character.toUpperCase(command)) {
+            case 'Z': return 0;
+            case 'H':
+            case 'V': return 1;
+            case 'M':
+            case 'L':
+            case 'T': return 2;
+            case 'S':
+            case 'Q': return 4;
+            case 'C': return 6;
+            case 'A': return 7;
+            default:
+                throw new IllegalArgumentException("Unsupported SVG path command '" + command + "' at index " + i);
+        }
+    }
+
+    private static boolean isArcFlag(char command, int argIndex) {
+        return (argIndex == 3 || argIndex == 4) && (command == 'A' || command == 'a');
+    }
+
+    private boolean skipSeparators() {
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c != ' ' && c != ',' && c != '\n' && c != '\r' && c != '\t')
+                return true;
+            i++;
+        }
+        return false;
+    }
+
+    private double nextNumber() {
+        skipSeparators();
+        int start = i;
+        if (i < n && (s.charAt(i) == '-' || s.charAt(i) == '+'))
+            i++;
+        boolean dot = false;
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9')
+                i++;
+            else if (c == '.' && !dot) {
+                dot = true;
+                i++;
+            } else if ((c == 'e' || c == 'E') && i + 1 < n) {
+                i++;
+                if (s.charAt(i) == '-' || s.charAt(i) == '+')
+                    i++;
+                dot = true; // No dot allowed in exponent
+            } else
+                break;
+        }
+        return Double.parseDouble(s.substring(start, i));
+    }
+
+    private boolean nextFlag() { // Flags may be written without separators (ex: "a1 1 0 011 1")
+        skipSeparators();
+        return s.charAt(i++) == '1';
+    }
+}
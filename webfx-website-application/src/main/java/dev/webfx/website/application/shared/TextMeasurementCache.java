@@ -0,0 +1,115 @@
+package dev.webfx.website.application.shared;
+
+import dev.webfx.extras.webtext.HtmlText;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of the text heights, keyed by (text, font, wrapping width). In the browser, each prefHeight() call on a text
+ * forces a synchronous reflow, so the layout passes (especially those triggered by each tick of a window resize)
+ * should measure a text only when its content, font or wrapping width has changed.
+ *
+ * As the font is part of the key, a font change naturally invalidates the measurements made with the previous font.
+ * The cache is bounded and evicts the least recently used measurements.
+ *
+ * @author Bruno Salmon
+ */
+public final class TextMeasurementCache {
+
+    private final static int CAPACITY = 512;
+
+    private static long hits, misses;
+    private static final Key PROBE = new Key();
+    private static final Map<Key, Double> CACHE = new LinkedHashMap<Key, Double>(16, 0.75f, true) { // access order
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    public static double getPrefHeight(Text text, double width) {
+        // The height of a Text depends on the width only when it is wrapping
+        double wrappingWidth = text.getWrappingWidth();
+        Double height = get(false, text.getText(), text.getFont(), wrappingWidth);
+        if (height == null)
+            put(false, text.getText(), text.getFont(), wrappingWidth, height = text.prefHeight(width));
+        return height;
+    }
+
+    public static double getPrefHeight(HtmlText htmlText, double width) {
+        Double height = get(true, htmlText.getText(), htmlText.getFont(), width);
+        if (height == null)
+            put(true, htmlText.getText(), htmlText.getFont(), width, height = htmlText.prefHeight(width));
+        return height;
+    }
+
+    // Returns the height that the html text would have with the passed text (which is temporarily set only if not cached)
+    public static double getPrefHeight(HtmlText htmlText, String text, double width) {
+        Double height = get(true, text, htmlText.getFont(), width);
+        if (height == null) {
+            String savedText = htmlText.getText();
+            htmlText.setText(text);
+            put(true, text, htmlText.getFont(), width, height = htmlText.prefHeight(width));
+            htmlText.setText(savedText);
+        }
+        return height;
+    }
+
+    private static Double get(boolean html, String text, Font font, double width) {
+        Double height = CACHE.get(PROBE.set(html, text, font, width));
+        PROBE.set(false, null, null, 0); // Not retaining the text & font
+        if (height != null)
+            hits++;
+        else
+            misses++;
+        return height;
+    }
+
+    private static void put(boolean html, String text, Font font, double width, double height) {
+        CACHE.put(new Key().set(html, text, font, width), height);
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    private static final class Key {
+        private boolean html;
+        private String text;
+        private Font font;
+        private double width;
+        private int hash;
+
+        Key set(boolean html, String text, Font font, double width) {
+            this.html = html;
+            this.text = text;
+            this.font = font;
+            this.width = width;
+            hash = 31 * (31 * (31 * Boolean.hashCode(html) + Objects.hashCode(text)) + Objects.hashCode(font)) + Double.hashCode(width);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return hash == key.hash && html == key.html && width == key.width && Objects.equals(text, key.text) && Objects.equals(font, key.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -78,16 +78,25 @@ public final class WebSiteShared {
         return text;
     }
 
-    public static Font htmlTextFont = Font.font("Arial", FontWeight.NORMAL, 22);
+    private final static Font DEFAULT_HTML_TEXT_FONT = Font.font("Arial", FontWeight.NORMAL, 22);
 
     public static HtmlText setHtmlText(HtmlText htmlText, String text) {
-        htmlText.setFont(htmlTextFont);
-        htmlText.setText(text == null ? null : "<center style='font-style: oblique; line-height: 1.5em;'>" + text + "</center>");
+        return setHtmlText(htmlText, text, null);
+    }
+
+    // The font is passed by the caller (ex: the caption font of the cards pane), or is the default one if null
+    public static HtmlText setHtmlText(HtmlText htmlText, String text, Font font) {
+        htmlText.setFont(font != null ? font : DEFAULT_HTML_TEXT_FONT);
+        htmlText.setText(toHtmlTextContent(text));
         htmlText.setFill(Color.WHITE);
         htmlText.setMouseTransparent(true);
         return htmlText;
     }
 
+    public static String toHtmlTextContent(String text) {
+        return text == null ? null : "<center style='font-style: oblique; line-height: 1.5em;'>" + text + "</center>";
+    }
+
     public static Font updateFontSize(Font font, double fontSize, boolean bold) {
         if (font == null || font.getSize() != fontSize)
             font = Font.font(font == null ?"Arial" : font.getFamily(), bold ? FontWeight.BOLD : FontWeight.NORMAL, fontSize);
@@ -122,7 +131,12 @@ public final class WebSiteShared {
     }
 
     public static Region setRegionBackground(Region region, Paint fill, CornerRadii radii) {
-        region.setBackground(fill == null || fill == Color.TRANSPARENT ? null : new Background(new BackgroundFill(fill, radii, null)));
+        return setRegionBackground(region, fill, radii, true);
+    }
+
+    // The animated fills must not be cached (see BackgroundCache)
+    public static Region setRegionBackground(Region region, Paint fill, CornerRadii radii, boolean cached) {
+        region.setBackground(fill == null || fill == Color.TRANSPARENT ? null : cached ? BackgroundCache.getBackground(fill, radii) : BackgroundCache.createBackground(fill, radii));
         return region;
     }
 
@@ -338,14 +352,10 @@ public final class WebSiteShared {
     }
 
     public static HBox createJavaFxLogo() {
-        SVGPath javaPath = new SVGPath();
-        javaPath.setContent(SvgLogoPaths.getJavaWordPath());
-        javaPath.setFill(javaColor);
+        SVGPath javaPath = createLogoSVGPath(SvgLogoPaths.getJavaWordPath(), javaColor);
         javaPath.setTranslateY(12);
         //javaPath.setEffect(WebSiteShared.dropShadow);
-        SVGPath fxPath = new SVGPath();
-        fxPath.setContent(SvgLogoPaths.getFxWordPath());
-        fxPath.setFill(fxColor);
+        SVGPath fxPath = createLogoSVGPath(SvgLogoPaths.getFxWordPath(), fxColor);
         //fxPath.setEffect(WebSiteShared.dropShadow);
         HBox javaFxHBox = new HBox(5, javaPath, fxPath);
         javaFxHBox.setAlignment(Pos.CENTER);